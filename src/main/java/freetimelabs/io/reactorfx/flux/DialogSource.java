@@ -16,12 +16,12 @@
 
 package freetimelabs.io.reactorfx.flux;
 
+import javafx.beans.InvalidationListener;
 import javafx.scene.control.Dialog;
+import javafx.stage.Window;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
-import java.util.Optional;
-
 /**
  * Contains all flux sources for {@link Dialog}
  */
@@ -29,9 +29,42 @@ class DialogSource
 {
     static <T> Mono<T> fromDialog(final Dialog<T> source, Scheduler scheduler)
     {
-        return Mono.fromCallable(source::showAndWait)
-                   .subscribeOn(scheduler)
-                   .filter(Optional::isPresent)
-                   .map(Optional::get);
+        // Dialog.show() returns right away, unlike showAndWait(), which would run a nested event loop on the JavaFX
+        // Application Thread for as long as the dialog is open. The result is set by the time the dialog is hidden.
+        // Listening to the showing property rather than setting onHidden leaves the handler of the dialog alone.
+        return Mono.<T>create(sink ->
+        {
+            final InvalidationListener onHidden = showing ->
+            {
+                if (!source.isShowing())
+                {
+                    sink.success(source.getResult());
+                }
+            };
+            source.showingProperty()
+                  .addListener(onHidden);
+            sink.onDispose(DisposeUtilities.onFx(() -> source.showingProperty()
+                                                             .removeListener(onHidden)));
+            sink.onCancel(DisposeUtilities.onFx(() -> close(source)));
+            source.show();
+        })
+                   .subscribeOn(scheduler);
+    }
+
+    private static void close(Dialog<?> source)
+    {
+        if (!source.isShowing())
+        {
+            return;
+        }
+        source.close();
+        // A dialog without a cancel button refuses to be closed without a result.
+        Window window = source.getDialogPane()
+                              .getScene()
+                              .getWindow();
+        if (source.isShowing() && window != null)
+        {
+            window.hide();
+        }
     }
 }
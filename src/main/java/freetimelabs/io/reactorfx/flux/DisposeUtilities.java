@@ -18,18 +18,73 @@ package freetimelabs.io.reactorfx.flux;
 
 import javafx.application.Platform;
 import reactor.core.Disposable;
+import reactor.core.Exceptions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Utilities for disposing fluxes safely
+ * Utilities for disposing fluxes safely. Listeners may only be removed on the JavaFX Application Thread, so removals
+ * requested from any other thread are collected in a single queue and run together by one {@link
+ * Platform#runLater(Runnable)} callback, rather than one callback each. Disposing thousands of subscriptions at once
+ * therefore costs the JavaFX Application Thread one pass instead of thousands of events queued ahead of the next frame.
  */
 class DisposeUtilities
 {
+    private static final Queue<Runnable> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean SCHEDULED = new AtomicBoolean(false);
+
     static Disposable onFx(Runnable task)
+    {
+        return () -> runOnFx(task);
+    }
+
+    /**
+     * Runs the argument task right away on the JavaFX Application Thread, or queues it for the next pass from any other
+     * thread.
+     */
+    static void runOnFx(Runnable task)
     {
         if (Platform.isFxApplicationThread())
         {
-            return task::run;
+            run(task);
+            return;
+        }
+        PENDING.offer(task);
+        if (SCHEDULED.compareAndSet(false, true))
+        {
+            Platform.runLater(DisposeUtilities::drain);
+        }
+    }
+
+    private static void drain()
+    {
+        // Cleared before polling, so a task queued while draining either is polled here or schedules the next pass.
+        SCHEDULED.set(false);
+        Runnable task;
+        while ((task = PENDING.poll()) != null)
+        {
+            run(task);
+        }
+    }
+
+    /**
+     * Runs the argument task, handing anything it throws to the uncaught exception handler of the current thread.
+     */
+    static void run(Runnable task)
+    {
+        try
+        {
+            task.run();
+        }
+        catch (Throwable t)
+        {
+            // One failing removal must not keep the rest of the pass from running.
+            Exceptions.throwIfJvmFatal(t);
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler()
+                  .uncaughtException(thread, t);
         }
-        return () -> Platform.runLater(task);
     }
 }
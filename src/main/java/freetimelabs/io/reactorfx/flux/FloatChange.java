@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package freetimelabs.io.reactorfx.flux;
+
+/**
+ * A single change of a {@link javafx.beans.value.ObservableFloatValue}, holding both values as primitive {@code
+ * float}s so that neither needs to be boxed. A {@link FloatChange} emitted by {@link
+ * FxFlux#fromReusedFloatChangesOf(javafx.beans.value.ObservableFloatValue)} is overwritten by the next change and
+ * must not be kept.
+ */
+public final class FloatChange
+{
+    private float oldVal;
+    private float newVal;
+
+    /**
+     * Constructs an instance of {@link FloatChange}.
+     *
+     * @param oldVal The previous value.
+     * @param newVal The new value.
+     */
+    public FloatChange(float oldVal, float newVal)
+    {
+        this.oldVal = oldVal;
+        this.newVal = newVal;
+    }
+
+    /**
+     * The old value of this change that has now been replaced by the {@link #getNewVal()}.
+     *
+     * @return The old value of this change.
+     */
+    public float getOldVal()
+    {
+        return oldVal;
+    }
+
+    /**
+     * The new value of this change that has replaced the old value.
+     *
+     * @return The new value of this change.
+     */
+    public float getNewVal()
+    {
+        return newVal;
+    }
+
+    /**
+     * Overwrites this change with the next one, for the flyweight source.
+     */
+    FloatChange set(float oldVal, float newVal)
+    {
+        this.oldVal = oldVal;
+        this.newVal = newVal;
+        return this;
+    }
+}
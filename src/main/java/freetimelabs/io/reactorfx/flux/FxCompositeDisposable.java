@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import reactor.core.Disposable;
+import reactor.util.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@link Disposable.Composite} that tears its whole group down in one task on the JavaFX Application Thread. Each
+ * {@link FxFlux} subscription cancelled there removes its listener right away, so disposing the group from any thread
+ * costs a single entry in the disposal queue of {@link DisposeUtilities}.
+ */
+final class FxCompositeDisposable implements Disposable.Composite
+{
+    // Guarded by this, null once disposed.
+    @Nullable
+    private Set<Disposable> disposables = new HashSet<>();
+
+    @Override
+    public boolean add(Disposable d)
+    {
+        synchronized (this)
+        {
+            if (disposables != null)
+            {
+                disposables.add(d);
+                return true;
+            }
+        }
+        d.dispose();
+        return false;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Disposable> ds)
+    {
+        synchronized (this)
+        {
+            if (disposables != null)
+            {
+                disposables.addAll(ds);
+                return true;
+            }
+        }
+        ds.forEach(Disposable::dispose);
+        return false;
+    }
+
+    @Override
+    public synchronized boolean remove(Disposable d)
+    {
+        return disposables != null && disposables.remove(d);
+    }
+
+    @Override
+    public synchronized int size()
+    {
+        return disposables == null ? 0 : disposables.size();
+    }
+
+    @Override
+    public void dispose()
+    {
+        Set<Disposable> ds;
+        synchronized (this)
+        {
+            ds = disposables;
+            if (ds == null)
+            {
+                return;
+            }
+            disposables = null;
+        }
+        DisposeUtilities.runOnFx(() ->
+        {
+            for (Disposable d : ds)
+            {
+                DisposeUtilities.run(d::dispose);
+            }
+        });
+    }
+
+    @Override
+    public synchronized boolean isDisposed()
+    {
+        return disposables == null;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.scene.input.DragEvent;
+import javafx.scene.input.MouseDragEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.RotateEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.TouchEvent;
+import javafx.scene.input.ZoomEvent;
+import reactor.util.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An event handler that collects the events of a frame and emits them to a {@link FxSink} once per pulse. Consecutive
+ * events of the same continuous {@link EventType} are collapsed: the latest position wins for mouse, drag and touch
+ * moves, while the deltas of {@link ScrollEvent#SCROLL}, {@link ZoomEvent#ZOOM} and {@link RotateEvent#ROTATE} are
+ * accumulated. All other events are emitted unchanged and in order, so no press, release or click is lost. The timer
+ * only runs while events are pending. Confined to the JavaFX Application Thread.
+ *
+ * @param <T> The type of the events.
+ */
+final class FxConflation<T extends Event> extends FxFrameTimer implements EventHandler<T>
+{
+    private static final Set<EventType<?>> LATEST_WINS = new HashSet<>(Arrays.asList(MouseEvent.MOUSE_MOVED,
+                                                                                     MouseEvent.MOUSE_DRAGGED,
+                                                                                     MouseDragEvent.MOUSE_DRAG_OVER,
+                                                                                     DragEvent.DRAG_OVER,
+                                                                                     TouchEvent.TOUCH_MOVED,
+                                                                                     TouchEvent.TOUCH_STATIONARY));
+
+    private final FxSink<T> sink;
+    private List<T> pending = new ArrayList<>();
+    private List<T> emitting = new ArrayList<>();
+
+    FxConflation(FxSink<T> sink)
+    {
+        this.sink = sink;
+    }
+
+    @Override
+    public void handle(T event)
+    {
+        int last = pending.size() - 1;
+        T merged = last < 0 ? null : merge(pending.get(last), event);
+        if (merged != null)
+        {
+            pending.set(last, merged);
+        }
+        else
+        {
+            pending.add(event);
+        }
+        schedule();
+    }
+
+    @Override
+    boolean flush()
+    {
+        if (pending.isEmpty())
+        {
+            return false;
+        }
+        // Swapped so that events fired by a subscriber are collected for the next frame.
+        List<T> frame = pending;
+        pending = emitting;
+        emitting = frame;
+        for (T event : frame)
+        {
+            sink.next(event);
+        }
+        frame.clear();
+        return true;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> T merge(T previous, T next)
+    {
+        EventType<? extends Event> type = next.getEventType();
+        if (previous.getEventType() != type || previous.getSource() != next.getSource() || previous.getTarget() != next.getTarget())
+        {
+            return null;
+        }
+        if (LATEST_WINS.contains(type))
+        {
+            return next;
+        }
+        if (type == ScrollEvent.SCROLL)
+        {
+            return (T) scroll((ScrollEvent) previous, (ScrollEvent) next);
+        }
+        if (type == ZoomEvent.ZOOM)
+        {
+            return (T) zoom((ZoomEvent) previous, (ZoomEvent) next);
+        }
+        if (type == RotateEvent.ROTATE)
+        {
+            return (T) rotate((RotateEvent) previous, (RotateEvent) next);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static ScrollEvent scroll(ScrollEvent previous, ScrollEvent next)
+    {
+        if (previous.getTextDeltaXUnits() != next.getTextDeltaXUnits() || previous.getTextDeltaYUnits() != next.getTextDeltaYUnits())
+        {
+            return null;
+        }
+        return new ScrollEvent(next.getSource(), next.getTarget(), ScrollEvent.SCROLL, next.getX(), next.getY(),
+                               next.getScreenX(), next.getScreenY(), next.isShiftDown(), next.isControlDown(),
+                               next.isAltDown(), next.isMetaDown(), next.isDirect(), next.isInertia(),
+                               previous.getDeltaX() + next.getDeltaX(), previous.getDeltaY() + next.getDeltaY(),
+                               next.getTotalDeltaX(), next.getTotalDeltaY(), next.getTextDeltaXUnits(),
+                               previous.getTextDeltaX() + next.getTextDeltaX(), next.getTextDeltaYUnits(),
+                               previous.getTextDeltaY() + next.getTextDeltaY(), next.getTouchCount(),
+                               next.getPickResult());
+    }
+
+    private static ZoomEvent zoom(ZoomEvent previous, ZoomEvent next)
+    {
+        return new ZoomEvent(next.getSource(), next.getTarget(), ZoomEvent.ZOOM, next.getX(), next.getY(),
+                             next.getScreenX(), next.getScreenY(), next.isShiftDown(), next.isControlDown(),
+                             next.isAltDown(), next.isMetaDown(), next.isDirect(), next.isInertia(),
+                             previous.getZoomFactor() * next.getZoomFactor(), next.getTotalZoomFactor(),
+                             next.getPickResult());
+    }
+
+    private static RotateEvent rotate(RotateEvent previous, RotateEvent next)
+    {
+        return new RotateEvent(next.getSource(), next.getTarget(), RotateEvent.ROTATE, next.getX(), next.getY(),
+                               next.getScreenX(), next.getScreenY(), next.isShiftDown(), next.isControlDown(),
+                               next.isAltDown(), next.isMetaDown(), next.isDirect(), next.isInertia(),
+                               previous.getAngle() + next.getAngle(), next.getTotalAngle(), next.getPickResult());
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Delivers the events of a {@link javafx.scene.Scene} or {@link javafx.scene.Parent} to subscribers of individual
+ * nodes below it through a single event filter. Subscribing to a node only adds it to an index, so the cost of a
+ * subscription does not depend on how many nodes are subscribed, and a node that is reused, such as a table cell, does
+ * not need to have handlers installed and removed. On each event the index is looked up for the target of the event and
+ * each of its ancestors. Created with {@link FxFlux#delegate(javafx.scene.Scene, EventType)} or {@link
+ * FxFlux#delegate(javafx.scene.Parent, EventType)}.
+ * <p>
+ * Unlike {@link FxFlux#from(Node, EventType)}, which installs an event handler on the node, events are delivered from
+ * the capture phase, as the filter on the root sees them on their way down to the target. Subscribers therefore
+ * receive an event before any handler or filter below the root, including the handlers of the node itself, and also
+ * receive events that one of those later consumes. Events consumed by a filter above the root are not delivered. A
+ * filter is used on purpose: many controls consume the events they handle, which would keep a handler on the root from
+ * ever seeing them.
+ * <pre>
+ * {@code
+ * FxEventDelegate<MouseEvent> clicks = FxFlux.delegate(scene, MouseEvent.MOUSE_CLICKED);
+ * Flux<MouseEvent> cellClicks = clicks.from(cell);
+ * }
+ * </pre>
+ *
+ * @param <T> The type of the events.
+ */
+public final class FxEventDelegate<T extends Event>
+{
+    private static final FxSink<?>[] EMPTY = new FxSink<?>[0];
+
+    private final Object root;
+    private final EventType<T> eventType;
+    private final BiConsumer<EventType<T>, EventHandler<T>> addFilter;
+    private final BiConsumer<EventType<T>, EventHandler<T>> removeFilter;
+    private final FxSource.Name name;
+    private final EventHandler<T> filter = this::dispatch;
+    private final Map<Node, FxSink<T>[]> index = new ConcurrentHashMap<>();
+    @SuppressWarnings("unchecked")
+    private volatile Matcher<T>[] matchers = (Matcher<T>[]) new Matcher<?>[0];
+    private int subscriptions;
+
+    FxEventDelegate(Object root, EventType<T> eventType, BiConsumer<EventType<T>, EventHandler<T>> addFilter,
+                    BiConsumer<EventType<T>, EventHandler<T>> removeFilter)
+    {
+        this.root = root;
+        this.eventType = eventType;
+        this.addFilter = addFilter;
+        this.removeFilter = removeFilter;
+        this.name = FxSource.name("delegate", root, eventType);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the events that target the argument {@link Node} or one of its descendants,
+     * with the argument {@link Node} as their source.
+     *
+     * @param node The {@link Node} to emit the events of.
+     * @return A {@link Flux} that emits the events of the argument {@link Node}.
+     */
+    public Flux<T> from(Node node)
+    {
+        return from(node, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the events that target the argument {@link Node} or one of its descendants,
+     * with the argument {@link Node} as their source. Values the subscriber has not requested yet are handled according
+     * to the argument {@link FxOverflow}.
+     *
+     * @param node     The {@link Node} to emit the events of.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the events of the argument {@link Node}.
+     */
+    public Flux<T> from(Node node, FxOverflow overflow)
+    {
+        return new FxSource<>(name.wrap("", ".from(" + FxSource.describe(node) + ")"), overflow, sink ->
+        {
+            subscribe(node, sink);
+            return () -> unsubscribe(node, sink);
+        });
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the events whose target, or the closest ancestor of it, matches the argument
+     * {@link Predicate}, with the matching {@link Node} as their source. Unlike {@link #from(Node)} the predicate is
+     * tested on every event, so prefer {@link #from(Node)} when the nodes are known.
+     *
+     * @param nodePredicate Decides which nodes to emit the events of.
+     * @return A {@link Flux} that emits the events of the matching nodes.
+     */
+    public Flux<T> from(Predicate<? super Node> nodePredicate)
+    {
+        return from(nodePredicate, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the events whose target, or the closest ancestor of it, matches the argument
+     * {@link Predicate}, with the matching {@link Node} as their source. Values the subscriber has not requested yet are
+     * handled according to the argument {@link FxOverflow}.
+     *
+     * @param nodePredicate Decides which nodes to emit the events of.
+     * @param overflow      What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the events of the matching nodes.
+     */
+    public Flux<T> from(Predicate<? super Node> nodePredicate, FxOverflow overflow)
+    {
+        return new FxSource<>(name.wrap("", ".from(" + FxSource.describe(nodePredicate) + ")"), overflow, sink ->
+        {
+            Matcher<T> matcher = new Matcher<>(nodePredicate, sink);
+            subscribe(matcher);
+            return () -> unsubscribe(matcher);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void subscribe(Node node, FxSink<T> sink)
+    {
+        index.compute(node, (n, current) ->
+        {
+            FxSink<T>[] sinks = current == null ? (FxSink<T>[]) EMPTY : current;
+            FxSink<T>[] next = Arrays.copyOf(sinks, sinks.length + 1);
+            next[sinks.length] = sink;
+            return next;
+        });
+        retain();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void unsubscribe(Node node, FxSink<T> sink)
+    {
+        FxSink<T>[] current = index.get(node);
+        int i = current == null ? -1 : Arrays.asList(current)
+                                             .indexOf(sink);
+        if (i < 0)
+        {
+            return;
+        }
+        if (current.length == 1)
+        {
+            index.remove(node);
+        }
+        else
+        {
+            FxSink<T>[] next = (FxSink<T>[]) new FxSink<?>[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, next.length - i);
+            index.put(node, next);
+        }
+        release();
+    }
+
+    private synchronized void subscribe(Matcher<T> matcher)
+    {
+        Matcher<T>[] current = matchers;
+        Matcher<T>[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = matcher;
+        matchers = next;
+        retain();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void unsubscribe(Matcher<T> matcher)
+    {
+        Matcher<T>[] current = matchers;
+        int i = Arrays.asList(current)
+                      .indexOf(matcher);
+        if (i < 0)
+        {
+            return;
+        }
+        Matcher<T>[] next = (Matcher<T>[]) new Matcher<?>[current.length - 1];
+        System.arraycopy(current, 0, next, 0, i);
+        System.arraycopy(current, i + 1, next, i, next.length - i);
+        matchers = next;
+        release();
+    }
+
+    private void retain()
+    {
+        if (subscriptions++ == 0)
+        {
+            addFilter.accept(eventType, filter);
+        }
+    }
+
+    private void release()
+    {
+        if (--subscriptions == 0)
+        {
+            removeFilter.accept(eventType, filter);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(T event)
+    {
+        EventTarget target = event.getTarget();
+        if (!(target instanceof Node))
+        {
+            return;
+        }
+        if (!index.isEmpty())
+        {
+            for (Node node = (Node) target; node != null; node = node.getParent())
+            {
+                FxSink<T>[] sinks = index.get(node);
+                if (sinks != null)
+                {
+                    T copy = (T) event.copyFor(node, target);
+                    for (FxSink<T> sink : sinks)
+                    {
+                        sink.next(copy);
+                    }
+                }
+                if (node == root)
+                {
+                    break;
+                }
+            }
+        }
+        for (Matcher<T> matcher : matchers)
+        {
+            for (Node node = (Node) target; node != null; node = node.getParent())
+            {
+                if (matcher.nodePredicate.test(node))
+                {
+                    matcher.sink.next((T) event.copyFor(node, target));
+                    break;
+                }
+                if (node == root)
+                {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static final class Matcher<T>
+    {
+        private final Predicate<? super Node> nodePredicate;
+        private final FxSink<T> sink;
+
+        Matcher(Predicate<? super Node> nodePredicate, FxSink<T> sink)
+        {
+            this.nodePredicate = nodePredicate;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A single {@link EventHandler} per event source, {@link EventType} and phase that emits every event to all {@link
+ * FxSink}s subscribed to them. It is installed on the source, as a handler or as a filter, by the first subscriber and
+ * removed again by the last one, so the JavaFX dispatch chain only walks one handler no matter how many subscribers
+ * there are.
+ * <p>
+ * The registry holds sources weakly and the handlers through {@link WeakReference}s: a handler is kept alive by the
+ * source it is installed on and by its subscriptions, never by the registry, so neither the source nor the subscribers
+ * are kept from being collected.
+ *
+ * @param <T> The type of the events.
+ */
+final class FxEventMulticast<T extends Event> implements EventHandler<T>
+{
+    private static final FxSink<?>[] EMPTY = new FxSink<?>[0];
+    private static final Map<Object, Map<EventType<?>, WeakReference<FxEventMulticast<?>>>> HANDLERS = new WeakHashMap<>();
+    private static final Map<Object, Map<EventType<?>, WeakReference<FxEventMulticast<?>>>> FILTERS = new WeakHashMap<>();
+
+    private final Map<Object, Map<EventType<?>, WeakReference<FxEventMulticast<?>>>> registry;
+    @SuppressWarnings("unchecked")
+    private volatile FxSink<T>[] sinks = (FxSink<T>[]) EMPTY;
+
+    private FxEventMulticast(Map<Object, Map<EventType<?>, WeakReference<FxEventMulticast<?>>>> registry)
+    {
+        this.registry = registry;
+    }
+
+    /**
+     * Subscribes the argument {@link FxSink} to the events of the argument type from the argument source, installing
+     * the shared handler if it is the first subscriber.
+     *
+     * @param source    The source of the events.
+     * @param eventType The type of the events.
+     * @param sink      The {@link FxSink} to emit the events to.
+     * @param filter    True if the handler is installed as a filter, which keeps it apart from regular handlers.
+     * @param add       Installs a handler on the source, for example {@code node::addEventHandler}.
+     * @param remove    Removes a handler from the source, for example {@code node::removeEventHandler}.
+     * @param <T>       The type of the events.
+     * @return The action that unsubscribes the {@link FxSink} again, removing the shared handler if it was the last
+     * subscriber.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Event> Runnable subscribe(Object source, EventType<T> eventType, FxSink<T> sink, boolean filter,
+                                                BiConsumer<EventType<T>, EventHandler<T>> add,
+                                                BiConsumer<EventType<T>, EventHandler<T>> remove)
+    {
+        final Map<Object, Map<EventType<?>, WeakReference<FxEventMulticast<?>>>> registry = filter ? FILTERS : HANDLERS;
+        final FxEventMulticast<T> handler;
+        synchronized (registry)
+        {
+            Map<EventType<?>, WeakReference<FxEventMulticast<?>>> byType = registry.computeIfAbsent(source, s -> new HashMap<>(4));
+            WeakReference<FxEventMulticast<?>> ref = byType.get(eventType);
+            FxEventMulticast<T> existing = ref == null ? null : (FxEventMulticast<T>) ref.get();
+            if (existing == null)
+            {
+                handler = new FxEventMulticast<>(registry);
+                byType.put(eventType, new WeakReference<>(handler));
+                add.accept(eventType, handler);
+            }
+            else
+            {
+                handler = existing;
+            }
+            FxSink<T>[] current = handler.sinks;
+            FxSink<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = sink;
+            handler.sinks = next;
+        }
+        return () -> handler.unsubscribe(source, eventType, sink, remove);
+    }
+
+    @Override
+    public void handle(T event)
+    {
+        for (FxSink<T> sink : sinks)
+        {
+            sink.next(event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void unsubscribe(Object source, EventType<T> eventType, FxSink<T> sink,
+                             BiConsumer<EventType<T>, EventHandler<T>> remove)
+    {
+        synchronized (registry)
+        {
+            FxSink<T>[] current = sinks;
+            int index = Arrays.asList(current)
+                              .indexOf(sink);
+            if (index < 0)
+            {
+                return;
+            }
+            if (current.length > 1)
+            {
+                FxSink<T>[] next = (FxSink<T>[]) new FxSink<?>[current.length - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, next.length - index);
+                sinks = next;
+                return;
+            }
+            sinks = (FxSink<T>[]) EMPTY;
+            Map<EventType<?>, WeakReference<FxEventMulticast<?>>> byType = registry.get(source);
+            if (byType != null)
+            {
+                WeakReference<FxEventMulticast<?>> ref = byType.get(eventType);
+                if (ref != null && ref.get() == this)
+                {
+                    byType.remove(eventType);
+                    if (byType.isEmpty())
+                    {
+                        registry.remove(source);
+                    }
+                }
+            }
+            remove.accept(eventType, this);
+        }
+    }
+}
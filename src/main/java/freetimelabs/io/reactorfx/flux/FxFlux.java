@@ -17,21 +17,37 @@
 package freetimelabs.io.reactorfx.flux;
 
 import freetimelabs.io.reactorfx.schedulers.FxSchedulers;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.*;
+import javafx.concurrent.Worker;
 import javafx.event.ActionEvent;
 import javafx.event.Event;
 import javafx.event.EventType;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.MenuItem;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.RotateEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.input.ZoomEvent;
 import javafx.stage.Window;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * <p> In JavaFX actions from external sources are propagated through {@link Event}. These Events can be emitted from
@@ -65,6 +81,16 @@ import java.util.Map;
  * .publishOn(anotherScheduler);
  * }
  * </pre>
+ * High-rate events such as mouse moves and scrolling can be collapsed to what happened in each rendered frame by
+ * {@link FxFlux#fromConflated(Node, EventType)}, so that downstream work runs at most once per frame.
+ * <pre>
+ * {@code
+ * Flux<ScrollEvent> scrolls = FxFlux.fromConflated(canvas, ScrollEvent.SCROLL)
+ * .publishOn(anotherScheduler);
+ * }
+ * </pre>
+ * Pointer motion that is recorded rather than reacted to can be copied into reusable primitive batches by {@link
+ * FxFlux#fromMouseSamples(Node, EventType)}, which allocates nothing per event and keeps no event reachable.
  * <h3>ObservableValue</h3> Updates of any JavaFX {@link ObservableValue} can be emitted onto a {@link Flux} by using
  * the factory {@link FxFlux#from(ObservableValue)} which creates a {@link Flux} that emits the initial value of the
  * observable followed by any subsequent changes to the {@link javafx.beans.Observable}. Often the initial value of an
@@ -87,6 +113,65 @@ import java.util.Map;
  *          .filter(change -> "World".equals(change.getNewValue()));
  * }
  * </pre>
+ * <p> The changes of a numeric property can be emitted without boxing: {@link
+ * FxFlux#fromDoubleChangesOf(ObservableDoubleValue)} emits a {@link DoubleChange} per change, {@link
+ * FxFlux#fromReusedDoubleChangesOf(ObservableDoubleValue)} reuses a single one for consumers on the JavaFX Application
+ * Thread, and {@link FxFlux#fromDoubleChangeBatchesOf(ObservableDoubleValue)} emits the changes of each frame as one
+ * {@link DoubleChanges} batch for consumers on other threads. The same factories exist for {@code float}, {@code
+ * int} and {@code long} values.
+ * <p> Several values that are updated by the same event, such as the labels bound to a selection, can be observed
+ * together with {@link FxFlux#fromSnapshotsOf(ObservableValue, ObservableValue, BiFunction)}, which emits one
+ * consistent snapshot per pulse instead of an intermediate combination per value.
+ * <p> The properties of many models, such as the rows of a large table, are best observed together with {@link
+ * FxFlux#fromAll(Collection)} or {@link FxFlux#group(Collection)}, which install one shared listener instead of a
+ * {@link Flux} per property and emit each changed property at most once per pulse.
+ * <h3>Overflow</h3> Every factory of events, values and collection changes, including the nodes of a {@link
+ * FxEventDelegate} with {@link FxEventDelegate#from(Node, FxOverflow)}, has an overload that takes a {@link
+ * FxOverflow}, which decides what the source does with values its subscriber has not requested yet. The default buffers
+ * them without bound, apart from {@link FxFlux#fromSnapshotsOf(Function, ObservableValue[])}, which keeps the latest
+ * snapshot; {@link FxOverflow#latest()}, {@link FxOverflow#drop()}, {@link FxOverflow#buffer(int)} and {@link
+ * FxOverflow#error()} bound the memory a high-rate source can use behind a slow subscriber. A few sources bound
+ * themselves and take no {@link FxOverflow}: {@link FxFlux#fromInvalidationsOf(ObservableValue)} only reads a value
+ * once it has been requested, the reused primitive changes such as {@link
+ * FxFlux#fromReusedDoubleChangesOf(ObservableDoubleValue)} are dropped while not requested, and the progress, messages,
+ * titles and state of a {@link Worker} keep the latest progress, message and title of a frame and the few state
+ * changes respectively.
+ * <pre>
+ * {@code
+ * Flux<MouseEvent> moves = FxFlux.from(canvas, MouseEvent.MOUSE_MOVED, FxOverflow.latest())
+ *     .publishOn(anotherScheduler);
+ * }
+ * </pre>
+ * <h3>Workers</h3> The value of a {@link Worker}, such as a {@link javafx.concurrent.Task}, is available as a {@link Mono}
+ * from {@link FxFlux#from(Worker)}, and its progress and messages, conflated to one value per frame, from {@link
+ * FxFlux#fromProgressOf(Worker)} and {@link FxFlux#fromMessagesOf(Worker)}. The other way around, {@link
+ * FxFlux#toWorker(Publisher, Scheduler)} runs a {@link Flux} or {@link Mono} on a Reactor {@link Scheduler} and
+ * presents it to the UI as a {@link Worker}.
+ * <pre>
+ * {@code
+ * Worker<Report> worker = FxFlux.toWorker(loadReport(), Schedulers.elastic());
+ * progressIndicator.progressProperty().bind(worker.progressProperty());
+ * }
+ * </pre>
+ * <h3>Lifecycle</h3> {@link FxFlux#whileShowing(Node, Flux)} subscribes to a {@link Flux} only while a node is
+ * attached to a showing window and resubscribes when it is shown again, while {@link FxFlux#untilHidden(Node, Flux)}
+ * ends the subscription once the node goes away, so neither needs a hand-written {@code takeUntil}.
+ * <pre>
+ * {@code
+ * FxFlux.whileShowing(label, FxFlux.from(model.nameProperty()))
+ *     .subscribe(label::setText);
+ * }
+ * </pre>
+ * <h3>Weak Subscriptions</h3> A listener keeps its subscribers reachable for as long as the observed node or collection
+ * is, and a subscriber that captures the view it updates keeps that view reachable in turn. Any {@link Flux} created
+ * here can be wrapped in {@link FxFlux#weak(Flux)}, whose listener lets an abandoned subscriber chain be garbage
+ * collected and is removed once that has happened. {@link FxFlux#purgedListeners()} counts the removed listeners.
+ * <pre>
+ * {@code
+ * Disposable subscription = FxFlux.weak(FxFlux.from(model.selectedProperty()))
+ *     .subscribe(view::update);
+ * }
+ * </pre>
  * <h3>JavaFX Collections Support</h3> ReactorFX also provides fluent factories for creating a Flux from any JavaFX
  * collection by four overloaded factory methods. <p> {@code from()} Using this factory will produce a Flux that emits
  * the argument JavaFX Collection whenever it has been changed. </p> <p> {@code fromAdditionsOf() }Using this factory
@@ -122,6 +207,10 @@ public final class FxFlux
     /**
      * Creates a {@link Mono} which emits when the argument {@link Dialog} has been finished. This will not emit if
      * nothing is selected from the from. The argument {@link Scheduler} will be used for listening for events.
+     * <p>
+     * The {@link Dialog} is shown with {@link Dialog#show()}, so neither the subscribing thread nor the JavaFX
+     * Application Thread waits for it to be closed, and no nested event loop is started. The result is emitted once the
+     * dialog is hidden. Cancelling the subscription closes the dialog if it is still showing.
      *
      * @param source    The {@link Dialog} to listen to.
      * @param scheduler The {@link Scheduler} that the from will show on. This should provide access to the JavaFX
@@ -134,6 +223,92 @@ public final class FxFlux
         return DialogSource.fromDialog(source, scheduler);
     }
 
+    /**
+     * Creates a {@link Mono} which emits the value of the argument {@link Worker}, such as a {@link
+     * javafx.concurrent.Task} or {@link javafx.concurrent.Service}, once it has succeeded. It fails with the exception
+     * of the {@link Worker} if it fails, and with a {@link java.util.concurrent.CancellationException} if it is
+     * cancelled. Cancelling the subscription cancels the {@link Worker}. If the {@link Worker} has already finished the
+     * {@link Mono} terminates right away.
+     *
+     * @param source The {@link Worker} to listen to.
+     * @param <T>    The type of the value of the {@link Worker}.
+     * @return A {@link Mono} which emits the value of the {@link Worker} once it has succeeded.
+     */
+    public static <T> Mono<T> from(Worker<T> source)
+    {
+        return WorkerSource.fromWorker(source);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the current progress of the argument {@link Worker} followed by its changes, at
+     * most once per frame. A {@link javafx.concurrent.Task} may update its progress far more often than the screen can
+     * show it; only the latest progress of each frame is emitted.
+     *
+     * @param source The {@link Worker} to listen to.
+     * @return A {@link Flux} that emits the progress of the {@link Worker}, between 0 and 1 or -1 if it is
+     * indeterminate.
+     */
+    public static Flux<Double> fromProgressOf(Worker<?> source)
+    {
+        return WorkerSource.progressOf(source);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the current message of the argument {@link Worker} followed by its changes, at
+     * most once per frame. Like its progress, a {@link javafx.concurrent.Task} may update its message far more often
+     * than the screen can show it; only the latest message of each frame is emitted.
+     *
+     * @param source The {@link Worker} to listen to.
+     * @return A {@link Flux} that emits the messages of the {@link Worker}.
+     */
+    public static Flux<String> fromMessagesOf(Worker<?> source)
+    {
+        return WorkerSource.messagesOf(source);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the current title of the argument {@link Worker} followed by its changes, at
+     * most once per frame, only the latest title of each frame being emitted.
+     *
+     * @param source The {@link Worker} to listen to.
+     * @return A {@link Flux} that emits the titles of the {@link Worker}.
+     */
+    public static Flux<String> fromTitlesOf(Worker<?> source)
+    {
+        return WorkerSource.titlesOf(source);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the current {@link Worker.State} of the argument {@link Worker} followed by
+     * each state it moves to.
+     *
+     * @param source The {@link Worker} to listen to.
+     * @return A {@link Flux} that emits the states of the {@link Worker}.
+     */
+    public static Flux<Worker.State> fromStateOf(Worker<?> source)
+    {
+        return WorkerSource.stateOf(source);
+    }
+
+    /**
+     * Runs the argument {@link Publisher} on the argument {@link Scheduler} and presents it to the UI as a {@link
+     * Worker}, for example to bind a {@link javafx.scene.control.ProgressIndicator} to it, instead of running the work
+     * on the thread pool of a {@link javafx.concurrent.Service}. The {@link Publisher} is subscribed to right away. The
+     * value of the {@link Worker} is the latest value emitted and its work done the number of values emitted; it
+     * succeeds when the {@link Publisher} completes and fails when it fails, or is cancelled if it fails with a {@link
+     * java.util.concurrent.CancellationException}. Cancelling the {@link Worker} cancels the subscription. The
+     * properties of the {@link Worker} are updated on the JavaFX Application Thread and should only be used there.
+     *
+     * @param source    The {@link Publisher} to run.
+     * @param scheduler The {@link Scheduler} to subscribe to it on.
+     * @param <T>       The type of the values.
+     * @return A {@link Worker} that follows the argument {@link Publisher}.
+     */
+    public static <T> Worker<T> toWorker(Publisher<T> source, Scheduler scheduler)
+    {
+        return FxPublisherWorker.start(source, scheduler);
+    }
+
     /**
      * Creates a {@link Flux} which emits all {@link Event} of the argument {@link EventType} from the argument {@link
      * MenuItem}.
@@ -146,7 +321,23 @@ public final class FxFlux
      */
     public static <T extends Event> Flux<T> from(MenuItem source, EventType<T> eventType)
     {
-        return SceneGraphSource.menuItemEvent(source, eventType);
+        return from(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all {@link Event} of the argument {@link EventType} from the argument {@link
+     * MenuItem}. Values the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link MenuItem} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that originate form the argument {@link
+     * MenuItem}.
+     */
+    public static <T extends Event> Flux<T> from(MenuItem source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.menuItemEvent(source, eventType, overflow);
     }
 
     /**
@@ -172,7 +363,22 @@ public final class FxFlux
      */
     public static <T extends Event> Flux<T> from(Node source, EventType<T> eventType)
     {
-        return SceneGraphSource.nodeEvent(source, eventType);
+        return from(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Node}.
+     * Values the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that originate from the argument {@link Node}.
+     */
+    public static <T extends Event> Flux<T> from(Node source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.nodeEvent(source, eventType, overflow);
     }
 
     /**
@@ -197,7 +403,22 @@ public final class FxFlux
      */
     public static <T extends Event> Flux<T> from(Scene source, EventType<T> eventType)
     {
-        return SceneGraphSource.sceneEvent(source, eventType);
+        return from(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Scene}.
+     * Values the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that originate from the argument {@link Scene}.
+     */
+    public static <T extends Event> Flux<T> from(Scene source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.sceneEvent(source, eventType, overflow);
     }
 
     /**
@@ -224,7 +445,23 @@ public final class FxFlux
      */
     public static <T extends Event> Flux<T> from(Window source, EventType<T> eventType)
     {
-        return SceneGraphSource.windowEvent(source, eventType);
+        return from(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Window}.
+     * Values the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that originate from the argument {@link
+     * Window}.
+     */
+    public static <T extends Event> Flux<T> from(Window source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.windowEvent(source, eventType, overflow);
     }
 
     /**
@@ -241,253 +478,1556 @@ public final class FxFlux
     }
 
     /**
-     * Creates a {@link Flux} which emits whenever the argument {@link ObservableValue} is changed. This will not
-     * provide an emission if the changed value is null. The initial value of the {@link ObservableValue} will be
-     * emitted as the first emission of this {@link Flux}.
+     * Creates a {@link Flux} which emits the Events of the argument {@link EventType} from the argument {@link Node}
+     * once per frame. Consecutive mouse, drag and touch moves within a frame are collapsed into the latest one, and
+     * consecutive {@link ScrollEvent#SCROLL}, {@link ZoomEvent#ZOOM} and {@link RotateEvent#ROTATE} events into one
+     * event that carries their accumulated deltas. All other events are emitted unchanged and in order.
      *
-     * @param observableValue The {@link ObservableValue} to listen for changes.
-     * @param <T>             The type of the Observable.
-     * @return A {@link Flux} that emits the newest value of the argument from when it has been changed.
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits the conflated events of each frame that originate from the argument {@link
+     * Node}.
      */
-    public static <T> Flux<T> from(ObservableValue<T> observableValue)
+    public static <T extends Event> Flux<T> fromConflated(Node source, EventType<T> eventType)
     {
-        return ObservableSource.from(observableValue);
+        return fromConflated(source, eventType, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a {@link Flux} which emits whenever the argument {@link ObservableValue} is changed. This emits a {@link
-     * Change} which contains both the new value and the old value of the change to the observable.
+     * Creates a {@link Flux} which emits the Events of the argument {@link EventType} from the argument {@link Node}
+     * once per frame. Consecutive mouse, drag and touch moves within a frame are collapsed into the latest one, and
+     * consecutive {@link ScrollEvent#SCROLL}, {@link ZoomEvent#ZOOM} and {@link RotateEvent#ROTATE} events into one
+     * event that carries their accumulated deltas. All other events are emitted unchanged and in order. Events the
+     * subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
      *
-     * @param observableValue The {@link ObservableValue} to listen to for changes.
-     * @param <T>             The type of the Observable.
-     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with events the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits the conflated events of each frame that originate from the argument {@link
+     * Node}.
      */
-    public static <T> Flux<Change<T>> fromChangesOf(ObservableValue<T> observableValue)
+    public static <T extends Event> Flux<T> fromConflated(Node source, EventType<T> eventType, FxOverflow overflow)
     {
-        return ObservableSource.fromChangesOf(observableValue);
+        return SceneGraphSource.conflatedNodeEvent(source, eventType, overflow);
     }
 
     /**
-     * Creates a {@link Flux} that emits the argument {@link ObservableList} every time it has been updated. The initial
-     * {@link ObservableList} will be emitted as the first emission of this {@link Flux}.
+     * Creates a {@link Flux} which emits the Events of the argument {@link EventType} from the argument {@link Scene}
+     * once per frame, conflated as described by {@link #fromConflated(Node, EventType)}.
      *
-     * @param source The {@link ObservableList} to listen to.
-     * @param <T>    The type of the {@link ObservableList}
-     * @return A {@link Flux} that emits the argument list whenever it has ben changed.
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits the conflated events of each frame that originate from the argument {@link
+     * Scene}.
      */
-    public static <T> Flux<ObservableList<T>> from(ObservableList<T> source)
+    public static <T extends Event> Flux<T> fromConflated(Scene source, EventType<T> eventType)
     {
-        return ObservableListSource.observableList(source);
+        return fromConflated(source, eventType, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
-     * additions to the list whenever it has been updated.
+     * Creates a {@link Flux} which emits the Events of the argument {@link EventType} from the argument {@link Scene}
+     * once per frame, conflated as described by {@link #fromConflated(Node, EventType)}. Events the subscriber has not
+     * requested yet are handled according to the argument {@link FxOverflow}.
      *
-     * @param source The {@link ObservableList} to listen to.
-     * @param <T>    The type of the {@link ObservableList}.
-     * @return A {@link Flux} that emits the additions to the list whenever it has been changed.
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with events the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits the conflated events of each frame that originate from the argument {@link
+     * Scene}.
      */
-    public static <T> Flux<T> fromAdditionsOf(ObservableList<T> source)
+    public static <T extends Event> Flux<T> fromConflated(Scene source, EventType<T> eventType, FxOverflow overflow)
     {
-        return ObservableListSource.additions(source);
+        return SceneGraphSource.conflatedSceneEvent(source, eventType, overflow);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
-     * removals to the list whenever it has been updated.
+     * Creates a {@link Flux} which emits the Events of the argument {@link EventType} from the argument {@link Window}
+     * once per frame, conflated as described by {@link #fromConflated(Node, EventType)}.
      *
-     * @param source The {@link ObservableList} to listen to.
-     * @param <T>    The type of the {@link ObservableList}.
-     * @return A {@link Flux} that emits the removals to the list whenever it has been changed.
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits the conflated events of each frame that originate from the argument {@link
+     * Window}.
      */
-    public static <T> Flux<T> fromRemovalsOf(ObservableList<T> source)
+    public static <T extends Event> Flux<T> fromConflated(Window source, EventType<T> eventType)
     {
-        return ObservableListSource.removals(source);
+        return fromConflated(source, eventType, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
-     * changes to the list whenever it has been updated.
+     * Creates a {@link Flux} which emits the Events of the argument {@link EventType} from the argument {@link Window}
+     * once per frame, conflated as described by {@link #fromConflated(Node, EventType)}. Events the subscriber has not
+     * requested yet are handled according to the argument {@link FxOverflow}.
      *
-     * @param <T>    The type of the {@link ObservableList}.
-     * @param source The {@link ObservableList} to listen to.
-     * @return A {@link Flux} that emits the {@link ListChangeListener.Change}s to the list whenever it has been changed
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with events the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits the conflated events of each frame that originate from the argument {@link
+     * Window}.
      */
-    public static <T> Flux<ListChangeListener.Change<? extends T>> fromChangesOf(ObservableList<T> source)
+    public static <T extends Event> Flux<T> fromConflated(Window source, EventType<T> eventType, FxOverflow overflow)
     {
-        return ObservableListSource.changes(source);
+        return SceneGraphSource.conflatedWindowEvent(source, eventType, overflow);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to am {@link ObservableMap} and emits the argument {@link
-     * ObservableMap} whenever it has been updated. The initial {@link ObservableMap} will be emitted as the first
-     * emission of this {@link Flux}.
+     * Creates a {@link FxEventDelegate} which delivers the Events of the argument {@link EventType} from the argument
+     * {@link Scene} to subscribers of individual nodes, through a single event filter on the {@link Scene}. Prefer it
+     * over {@link #from(Node, EventType)} when subscribing to many nodes, such as the cells of a table. Events are
+     * delivered from the capture phase: before the handlers of the node itself, and even if a handler consumes them
+     * later on. See {@link FxEventDelegate}.
      *
-     * @param source The {@link ObservableMap} to listen to.
-     * @param <T>    The key type of the {@link ObservableMap}.
-     * @param <V>    The value type of the {@link ObservableMap}.
-     * @return A {@link Flux} that emits the {@link ObservableMap} whenever it gets updated.
+     * @param source    The {@link Scene} that contains the nodes.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link FxEventDelegate} that creates a {@link Flux} of the events of any node in the argument {@link
+     * Scene}.
      */
-    public static <T, V> Flux<ObservableMap<T, V>> from(ObservableMap<T, V> source)
+    public static <T extends Event> FxEventDelegate<T> delegate(Scene source, EventType<T> eventType)
     {
-        return ObservableMapSource.observableMap(source);
+        return SceneGraphSource.sceneDelegate(source, eventType);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any additions to the
-     * argument {@link ObservableMap}.
+     * Creates a {@link FxEventDelegate} which delivers the Events of the argument {@link EventType} from the argument
+     * {@link Parent} to subscribers of its descendants, through a single event filter on the {@link Parent}. Events
+     * are delivered from the capture phase: before the handlers of the node itself, and even if a handler consumes
+     * them later on. See {@link FxEventDelegate}.
      *
-     * @param source The {@link ObservableMap} to listen to for additions.
-     * @param <T>    The key type of the {@link ObservableMap}.
-     * @param <V>    The value type of the {@link ObservableMap}.
-     * @return A {@link Flux} that emits any entry added to the argument {@link ObservableMap}.
+     * @param source    The {@link Parent} that contains the nodes.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link FxEventDelegate} that creates a {@link Flux} of the events of any descendant of the argument
+     * {@link Parent}.
      */
-    public static <T, V> Flux<Map.Entry<T, V>> fromAdditionsOf(ObservableMap<T, V> source)
+    public static <T extends Event> FxEventDelegate<T> delegate(Parent source, EventType<T> eventType)
     {
-        return ObservableMapSource.additions(source);
+        return SceneGraphSource.parentDelegate(source, eventType);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any removals to the
-     * argument {@link ObservableMap}.
+     * Creates a {@link Flux} which emits the position, buttons and time of the {@link MouseEvent}s of the argument
+     * {@link EventType} from the argument {@link Node} in batches of up to 128 samples, using 4 preallocated batches.
+     * See {@link #fromMouseSamples(Node, EventType, int, int)}.
      *
-     * @param source The {@link ObservableMap} to listen to for removals.
-     * @param <T>    The key type of the {@link ObservableMap}.
-     * @param <V>    The value type of the {@link ObservableMap}.
-     * @return A {@link Flux} that emits any entry removed from the argument {@link ObservableMap}.
+     * @param source    The target {@link Node} where mouse events are emitted from.
+     * @param eventType The type of mouse event to listen for.
+     * @return A {@link Flux} that emits batches of samples of the mouse events of the argument {@link Node}.
      */
-    public static <T, V> Flux<Map.Entry<T, V>> fromRemovalsOf(ObservableMap<T, V> source)
+    public static Flux<MouseSamples> fromMouseSamples(Node source, EventType<MouseEvent> eventType)
     {
-        return ObservableMapSource.removals(source);
+        return fromMouseSamples(source, eventType, 128, 4);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any changes to the
-     * argument {@link ObservableMap}.
+     * Creates a {@link Flux} which emits the position, buttons and time of the {@link MouseEvent}s of the argument
+     * {@link EventType} from the argument {@link Node} in batches. Samples are copied into primitive arrays of a
+     * fixed number of preallocated batches, so no event allocates and no event, node or pick result is kept reachable.
+     * A batch is emitted when it is full or at the end of the frame, and must be handed back with {@link
+     * MouseSamples#release()}. While every batch is waiting to be released the current one keeps the most recent
+     * samples, see {@link MouseSamples#getDropped()}.
+     * <pre>
+     * {@code
+     * FxFlux.fromMouseSamples(scene, MouseEvent.MOUSE_MOVED)
+     * .publishOn(anotherScheduler)
+     * .subscribe(samples ->
+     * {
+     *     record(samples);
+     *     samples.release();
+     * });
+     * }
+     * </pre>
      *
-     * @param <T>    The key type of the {@link ObservableMap}.
-     * @param <V>    The value type of the {@link ObservableMap}.
-     * @param source The {@link ObservableMap} to listen to for removals.
-     * @return A {@link Flux} that emits the {@link ListChangeListener.Change}s to underlying {@link ObservableMap}.
+     * @param source    The target {@link Node} where mouse events are emitted from.
+     * @param eventType The type of mouse event to listen for.
+     * @param batchSize The maximum number of samples in a batch.
+     * @param batches   The number of preallocated batches, at least 2.
+     * @return A {@link Flux} that emits batches of samples of the mouse events of the argument {@link Node}.
+     * @throws IllegalArgumentException if the batch size is not positive or there are fewer than 2 batches.
      */
-    public static <T, V> Flux<MapChangeListener.Change<? extends T, ? extends V>> fromChangesOf(ObservableMap<T, V> source)
+    public static Flux<MouseSamples> fromMouseSamples(Node source, EventType<MouseEvent> eventType, int batchSize, int batches)
     {
-        return ObservableMapSource.changes(source);
+        return fromMouseSamples(source, eventType, batchSize, batches, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to an {@link ObservableSet} and emits the set whenever there is a
-     * change to it. The initial {@link ObservableSet} will be emitted as the first emission of this {@link Flux}.
+     * Creates a {@link Flux} which emits the position, buttons and time of the {@link MouseEvent}s of the argument
+     * {@link EventType} from the argument {@link Node} in batches. Samples are copied into primitive arrays of a
+     * fixed number of preallocated batches, so no event allocates and no event, node or pick result is kept reachable.
+     * A batch is emitted when it is full or at the end of the frame, and must be handed back with {@link
+     * MouseSamples#release()}. While every batch is waiting to be released the current one keeps the most recent
+     * samples, see {@link MouseSamples#getDropped()}. Batches the subscriber has not requested yet are handled according
+     * to the argument {@link FxOverflow}; those it drops are released.
+     * <pre>
+     * {@code
+     * FxFlux.fromMouseSamples(scene, MouseEvent.MOUSE_MOVED)
+     * .publishOn(anotherScheduler)
+     * .subscribe(samples ->
+     * {
+     *     record(samples);
+     *     samples.release();
+     * });
+     * }
+     * </pre>
      *
-     * @param source The {@link ObservableSet} to listen to.
-     * @param <T>    The type contained by the {@link ObservableSet}.
-     * @return A {@link Flux} that emits the argument {@link ObservableSet} whenever it has been updated.
+     * @param source    The target {@link Node} where mouse events are emitted from.
+     * @param eventType The type of mouse event to listen for.
+     * @param batchSize The maximum number of samples in a batch.
+     * @param batches   The number of preallocated batches, at least 2.
+     * @param overflow  What to do with batches the subscriber has not requested yet.
+     * @return A {@link Flux} that emits batches of samples of the mouse events of the argument {@link Node}.
+     * @throws IllegalArgumentException if the batch size is not positive or there are fewer than 2 batches.
      */
-    public static <T> Flux<ObservableSet<T>> from(ObservableSet<T> source)
+    public static Flux<MouseSamples> fromMouseSamples(Node source, EventType<MouseEvent> eventType, int batchSize, int batches,
+                                                      FxOverflow overflow)
     {
-        return ObservableSetSource.observableSet(source);
+        return SceneGraphSource.nodeMouseSamples(source, eventType, batchSize, batches, overflow);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to {@link ObservableSet} and emits any additions to it.
+     * Creates a {@link Flux} which emits the position, buttons and time of the {@link MouseEvent}s of the argument
+     * {@link EventType} from the argument {@link Scene} in batches of up to 128 samples, using 4 preallocated batches.
+     * See {@link #fromMouseSamples(Scene, EventType, int, int)}.
      *
-     * @param source The {@link ObservableSet} to listen to for additions.
-     * @param <T>    The type contained by the {@link ObservableSet}.
-     * @return A {@link Flux} that emits any addition to the argument {@link ObservableSet}.
+     * @param source    The target {@link Scene} where mouse events are emitted from.
+     * @param eventType The type of mouse event to listen for.
+     * @return A {@link Flux} that emits batches of samples of the mouse events of the argument {@link Scene}.
      */
-    public static <T> Flux<T> fromAdditionsOf(ObservableSet<T> source)
+    public static Flux<MouseSamples> fromMouseSamples(Scene source, EventType<MouseEvent> eventType)
     {
-        return ObservableSetSource.additions(source);
+        return fromMouseSamples(source, eventType, 128, 4);
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to {@link ObservableSet} and emits any removals to it.
+     * Creates a {@link Flux} which emits the position, buttons and time of the {@link MouseEvent}s of the argument
+     * {@link EventType} from the argument {@link Scene} in batches. Samples are copied into primitive arrays of a
+     * fixed number of preallocated batches, so no event allocates and no event, node or pick result is kept reachable.
+     * A batch is emitted when it is full or at the end of the frame, and must be handed back with {@link
+     * MouseSamples#release()}. While every batch is waiting to be released the current one keeps the most recent
+     * samples, see {@link MouseSamples#getDropped()}.
+     * <pre>
+     * {@code
+     * FxFlux.fromMouseSamples(scene, MouseEvent.MOUSE_MOVED)
+     * .publishOn(anotherScheduler)
+     * .subscribe(samples ->
+     * {
+     *     record(samples);
+     *     samples.release();
+     * });
+     * }
+     * </pre>
      *
-     * @param source The {@link ObservableSet} to listen to for removals.
-     * @param <T>    Type contained by the {@link ObservableSet}
-     * @return A {@link Flux} that emits any removals to the argument {@link ObservableSet}.
+     * @param source    The target {@link Scene} where mouse events are emitted from.
+     * @param eventType The type of mouse event to listen for.
+     * @param batchSize The maximum number of samples in a batch.
+     * @param batches   The number of preallocated batches, at least 2.
+     * @return A {@link Flux} that emits batches of samples of the mouse events of the argument {@link Scene}.
+     * @throws IllegalArgumentException if the batch size is not positive or there are fewer than 2 batches.
      */
-    public static <T> Flux<T> fromRemovalsOf(ObservableSet<T> source)
+    public static Flux<MouseSamples> fromMouseSamples(Scene source, EventType<MouseEvent> eventType, int batchSize, int batches)
     {
-        return ObservableSetSource.removals(source);
+        return fromMouseSamples(source, eventType, batchSize, batches, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableSet} and emits all of the
-     * changes to the set whenever it has been updated.
+     * Creates a {@link Flux} which emits the position, buttons and time of the {@link MouseEvent}s of the argument
+     * {@link EventType} from the argument {@link Scene} in batches. Samples are copied into primitive arrays of a
+     * fixed number of preallocated batches, so no event allocates and no event, node or pick result is kept reachable.
+     * A batch is emitted when it is full or at the end of the frame, and must be handed back with {@link
+     * MouseSamples#release()}. While every batch is waiting to be released the current one keeps the most recent
+     * samples, see {@link MouseSamples#getDropped()}. Batches the subscriber has not requested yet are handled according
+     * to the argument {@link FxOverflow}; those it drops are released.
+     * <pre>
+     * {@code
+     * FxFlux.fromMouseSamples(scene, MouseEvent.MOUSE_MOVED)
+     * .publishOn(anotherScheduler)
+     * .subscribe(samples ->
+     * {
+     *     record(samples);
+     *     samples.release();
+     * });
+     * }
+     * </pre>
      *
-     * @param source The {@link ObservableSet} to listen to for removals.
-     * @param <T>    Type contained by the {@link ObservableSet}
-     * @return A {@link Flux} that emits the {@link SetChangeListener.Change}s to the set whenever it has been changed
+     * @param source    The target {@link Scene} where mouse events are emitted from.
+     * @param eventType The type of mouse event to listen for.
+     * @param batchSize The maximum number of samples in a batch.
+     * @param batches   The number of preallocated batches, at least 2.
+     * @param overflow  What to do with batches the subscriber has not requested yet.
+     * @return A {@link Flux} that emits batches of samples of the mouse events of the argument {@link Scene}.
+     * @throws IllegalArgumentException if the batch size is not positive or there are fewer than 2 batches.
      */
-    public static <T> Flux<SetChangeListener.Change<? extends T>> fromChangesOf(ObservableSet<T> source)
+    public static Flux<MouseSamples> fromMouseSamples(Scene source, EventType<MouseEvent> eventType, int batchSize, int batches,
+                                                      FxOverflow overflow)
     {
-        return ObservableSetSource.changes(source);
+        return SceneGraphSource.sceneMouseSamples(source, eventType, batchSize, batches, overflow);
     }
 
     /**
-     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the entire array whenever
-     * it has been changed. The initial {@link ObservableIntegerArray} will be emitted as the first emission of this
-     * {@link Flux}.
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * MenuItem} before they reach any other event handler. A {@link MenuItem} does not support event filters, but its
+     * events are dispatched to nothing but its own handlers, so a handler is used instead.
      *
-     * @param source - The {@link ObservableIntegerArray} to listen to for changes.
-     * @return A {@link Flux} that emits the argument {@link ObservableIntegerArray} whenever it has been updated.
+     * @param source    The target {@link MenuItem} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link MenuItem}.
      */
-    public static Flux<ObservableIntegerArray> from(ObservableIntegerArray source)
+    public static <T extends Event> Flux<T> fromFilter(MenuItem source, EventType<T> eventType)
     {
-        return ObservableArraySource.observableArray(source);
+        return fromFilter(source, eventType, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the entire array whenever it
-     * has been changed. The initial {@link ObservableFloatArray} will be emitted as the first emission of this {@link
-     * Flux}.
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * MenuItem} before they reach any other event handler. A {@link MenuItem} does not support event filters, but its
+     * events are dispatched to nothing but its own handlers, so a handler is used instead. Values the subscriber has
+     * not requested yet are handled according to the argument {@link FxOverflow}.
      *
-     * @param source - The {@link ObservableFloatArray} to listen to for changes.
-     * @return A {@link Flux} that emits the argument {@link ObservableFloatArray} whenever it has been updated.
+     * @param source    The target {@link MenuItem} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link MenuItem}.
      */
-    public static Flux<ObservableFloatArray> from(ObservableFloatArray source)
+    public static <T extends Event> Flux<T> fromFilter(MenuItem source, EventType<T> eventType, FxOverflow overflow)
     {
-        return ObservableArraySource.observableArray(source);
+        return SceneGraphSource.menuItemFilter(source, eventType, event -> false, overflow);
     }
 
     /**
-     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the changed sub-array of
-     * the array whenever it has been changed.
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * MenuItem}, and consumes those that match the argument {@link Predicate} once they have been emitted. A {@link
+     * MenuItem} does not support event filters, but its events are dispatched to nothing but its own handlers, so a
+     * handler is used instead.
      *
-     * @param source - The ObservableIntegerArray to listen to for changes.
-     * @return A {@link Flux} that emits the changed sub-array of the argument {@link ObservableIntegerArray} whenever
-     * it has been updated.
+     * @param source    The target {@link MenuItem} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link MenuItem}.
      */
-    public static Flux<ObservableIntegerArray> fromChangedSubArrayOf(ObservableIntegerArray source)
+    public static <T extends Event> Flux<T> fromFilter(MenuItem source, EventType<T> eventType, Predicate<? super T> consume)
     {
-        return ObservableArraySource.observableIntegerSubArray(source);
+        return fromFilter(source, eventType, consume, FxOverflow.unbounded());
     }
 
     /**
-     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the {@link ArrayChange} of
-     * the array whenever it has been changed.
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * MenuItem}, and consumes those that match the argument {@link Predicate} once they have been emitted. A {@link
+     * MenuItem} does not support event filters, but its events are dispatched to nothing but its own handlers, so a
+     * handler is used instead. Values the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
      *
-     * @param source - The ObservableIntegerArray to listen to for changes.
-     * @return A {@link Flux} that emits the changes to the underlying array whenever it has been updated.
+     * @param source    The target {@link MenuItem} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link MenuItem}.
      */
-    public static Flux<ArrayChange<ObservableIntegerArray>> fromChangesOf(ObservableIntegerArray source)
+    public static <T extends Event> Flux<T> fromFilter(MenuItem source, EventType<T> eventType, Predicate<? super T> consume,
+                                                       FxOverflow overflow)
     {
-        return ObservableArraySource.observableIntegerChanges(source);
+        return SceneGraphSource.menuItemFilter(source, eventType, consume, overflow);
     }
 
     /**
-     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the changed sub-array of the
-     * array whenever it has been changed.
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * Node} through an event filter, that is before they reach any event handler.
      *
-     * @param source - The ObservableFloatArray to listen to for changes.
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Node}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Node source, EventType<T> eventType)
+    {
+        return fromFilter(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Node}
+     * through an event filter, that is before they reach any event handler. Values the subscriber has not requested yet
+     * are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Node}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Node source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.nodeFilter(source, eventType, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * Node} through an event filter, and consumes those that match the argument {@link Predicate} once they have been
+     * emitted, so that they do not travel any further.
+     *
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Node}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Node source, EventType<T> eventType, Predicate<? super T> consume)
+    {
+        return fromFilter(source, eventType, consume, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Node}
+     * through an event filter, and consumes those that match the argument {@link Predicate} once they have been
+     * emitted, so that they do not travel any further. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Node} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Node}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Node source, EventType<T> eventType, Predicate<? super T> consume,
+                                                       FxOverflow overflow)
+    {
+        return SceneGraphSource.nodeFilter(source, eventType, consume, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * Scene} through an event filter, that is before they reach any event handler.
+     *
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Scene}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Scene source, EventType<T> eventType)
+    {
+        return fromFilter(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Scene}
+     * through an event filter, that is before they reach any event handler. Values the subscriber has not requested yet
+     * are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Scene}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Scene source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.sceneFilter(source, eventType, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * Scene} through an event filter, and consumes those that match the argument {@link Predicate} once they have been
+     * emitted, so that they do not travel any further.
+     *
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Scene}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Scene source, EventType<T> eventType, Predicate<? super T> consume)
+    {
+        return fromFilter(source, eventType, consume, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Scene}
+     * through an event filter, and consumes those that match the argument {@link Predicate} once they have been
+     * emitted, so that they do not travel any further. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Scene} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Scene}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Scene source, EventType<T> eventType, Predicate<? super T> consume,
+                                                       FxOverflow overflow)
+    {
+        return SceneGraphSource.sceneFilter(source, eventType, consume, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * Window} through an event filter, that is before they reach any event handler.
+     *
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Window}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Window source, EventType<T> eventType)
+    {
+        return fromFilter(source, eventType, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Window}
+     * through an event filter, that is before they reach any event handler. Values the subscriber has not requested yet
+     * are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Window}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Window source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return SceneGraphSource.windowFilter(source, eventType, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link
+     * Window} through an event filter, and consumes those that match the argument {@link Predicate} once they have been
+     * emitted, so that they do not travel any further.
+     *
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Window}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Window source, EventType<T> eventType, Predicate<? super T> consume)
+    {
+        return fromFilter(source, eventType, consume, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits all Events of the argument {@link EventType} from the argument {@link Window}
+     * through an event filter, and consumes those that match the argument {@link Predicate} once they have been
+     * emitted, so that they do not travel any further. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param source    The target {@link Window} where UI events are emitted from.
+     * @param eventType The type of event to listen for.
+     * @param consume   Decides which events to consume.
+     * @param overflow  What to do with values the subscriber has not requested yet.
+     * @param <T>       The event type.
+     * @return A {@link Flux} that emits all events of the argument type that pass through the argument {@link Window}.
+     */
+    public static <T extends Event> Flux<T> fromFilter(Window source, EventType<T> eventType, Predicate<? super T> consume,
+                                                       FxOverflow overflow)
+    {
+        return SceneGraphSource.windowFilter(source, eventType, consume, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits whenever the argument {@link ObservableValue} is changed. This will not
+     * provide an emission if the changed value is null. The initial value of the {@link ObservableValue} will be
+     * emitted as the first emission of this {@link Flux}.
+     *
+     * @param observableValue The {@link ObservableValue} to listen for changes.
+     * @param <T>             The type of the Observable.
+     * @return A {@link Flux} that emits the newest value of the argument from when it has been changed.
+     */
+    public static <T> Flux<T> from(ObservableValue<T> observableValue)
+    {
+        return from(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits whenever the argument {@link ObservableValue} is changed. This will not
+     * provide an emission if the changed value is null. The initial value of the {@link ObservableValue} will be
+     * emitted as the first emission of this {@link Flux}. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableValue} to listen for changes.
+     * @param overflow        What to do with values the subscriber has not requested yet.
+     * @param <T>             The type of the Observable.
+     * @return A {@link Flux} that emits the newest value of the argument from when it has been changed.
+     */
+    public static <T> Flux<T> from(ObservableValue<T> observableValue, FxOverflow overflow)
+    {
+        return ObservableSource.from(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the value of the argument {@link ObservableValue} when it has been invalidated
+     * and the subscriber has requested it. Unlike {@link #from(ObservableValue)}, which installs a {@link
+     * javafx.beans.value.ChangeListener} that reads every new value, this only marks the value as invalid and reads it
+     * once there is demand, so an expensive {@link javafx.beans.binding.Binding} is computed at most once per requested
+     * value rather than on every change of its dependencies. While the subscriber has not requested more, nothing is
+     * read. This will not provide an emission if the value is null, and may emit a value equal to the
+     * previous one if the {@link ObservableValue} was invalidated without changing. The initial value of the {@link
+     * ObservableValue} will be emitted as the first emission of this {@link Flux}.
+     *
+     * @param observableValue The {@link ObservableValue} to listen for invalidations.
+     * @param <T>             The type of the Observable.
+     * @return A {@link Flux} that emits the current value of the argument when requested after it has been invalidated.
+     */
+    public static <T> Flux<T> fromInvalidationsOf(ObservableValue<T> observableValue)
+    {
+        return ObservableSource.fromInvalidationsOf(observableValue);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits whenever the argument {@link ObservableValue} is changed. This emits a {@link
+     * Change} which contains both the new value and the old value of the change to the observable.
+     *
+     * @param observableValue The {@link ObservableValue} to listen to for changes.
+     * @param <T>             The type of the Observable.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static <T> Flux<Change<T>> fromChangesOf(ObservableValue<T> observableValue)
+    {
+        return fromChangesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits whenever the argument {@link ObservableValue} is changed. This emits a {@link
+     * Change} which contains both the new value and the old value of the change to the observable. Values the
+     * subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableValue} to listen to for changes.
+     * @param overflow        What to do with values the subscriber has not requested yet.
+     * @param <T>             The type of the Observable.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static <T> Flux<Change<T>> fromChangesOf(ObservableValue<T> observableValue, FxOverflow overflow)
+    {
+        return ObservableSource.fromChangesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link DoubleChange} whenever the argument {@link ObservableDoubleValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link DoubleChange} itself.
+     *
+     * @param observableValue The {@link ObservableDoubleValue} to listen to for changes.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<DoubleChange> fromDoubleChangesOf(ObservableDoubleValue observableValue)
+    {
+        return fromDoubleChangesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link DoubleChange} whenever the argument {@link ObservableDoubleValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link DoubleChange} itself. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableDoubleValue} to listen to for changes.
+     * @param overflow        What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<DoubleChange> fromDoubleChangesOf(ObservableDoubleValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the same {@link DoubleChange} whenever the argument {@link
+     * ObservableDoubleValue} is changed, overwritten with the values of each change, so nothing at all is allocated per
+     * change. The emitted {@link DoubleChange} is only valid until the next change, so it must be consumed
+     * synchronously on the JavaFX Application Thread and never kept, buffered or handed to another thread. Changes the
+     * subscriber has not requested are dropped.
+     *
+     * @param observableValue The {@link ObservableDoubleValue} to listen to for changes.
+     * @return A {@link Flux} that emits a reused change that contains both the new and old values of a change.
+     */
+    public static Flux<DoubleChange> fromReusedDoubleChangesOf(ObservableDoubleValue observableValue)
+    {
+        return PrimitiveChangeSource.reusedChangesOf(observableValue);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableDoubleValue} once per frame, as a
+     * {@link DoubleChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame.
+     *
+     * @param observableValue The {@link ObservableDoubleValue} to listen to for changes.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<DoubleChanges> fromDoubleChangeBatchesOf(ObservableDoubleValue observableValue)
+    {
+        return fromDoubleChangeBatchesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableDoubleValue} once per frame, as a
+     * {@link DoubleChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame. Batches the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableDoubleValue} to listen to for changes.
+     * @param overflow        What to do with batches the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<DoubleChanges> fromDoubleChangeBatchesOf(ObservableDoubleValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changeBatchesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link FloatChange} whenever the argument {@link ObservableFloatValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link FloatChange} itself.
+     *
+     * @param observableValue The {@link ObservableFloatValue} to listen to for changes.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<FloatChange> fromFloatChangesOf(ObservableFloatValue observableValue)
+    {
+        return fromFloatChangesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link FloatChange} whenever the argument {@link ObservableFloatValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link FloatChange} itself. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableFloatValue} to listen to for changes.
+     * @param overflow        What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<FloatChange> fromFloatChangesOf(ObservableFloatValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the same {@link FloatChange} whenever the argument {@link
+     * ObservableFloatValue} is changed, overwritten with the values of each change, so nothing at all is allocated per
+     * change. The emitted {@link FloatChange} is only valid until the next change, so it must be consumed
+     * synchronously on the JavaFX Application Thread and never kept, buffered or handed to another thread. Changes the
+     * subscriber has not requested are dropped.
+     *
+     * @param observableValue The {@link ObservableFloatValue} to listen to for changes.
+     * @return A {@link Flux} that emits a reused change that contains both the new and old values of a change.
+     */
+    public static Flux<FloatChange> fromReusedFloatChangesOf(ObservableFloatValue observableValue)
+    {
+        return PrimitiveChangeSource.reusedChangesOf(observableValue);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableFloatValue} once per frame, as a
+     * {@link FloatChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame.
+     *
+     * @param observableValue The {@link ObservableFloatValue} to listen to for changes.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<FloatChanges> fromFloatChangeBatchesOf(ObservableFloatValue observableValue)
+    {
+        return fromFloatChangeBatchesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableFloatValue} once per frame, as a
+     * {@link FloatChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame. Batches the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableFloatValue} to listen to for changes.
+     * @param overflow        What to do with batches the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<FloatChanges> fromFloatChangeBatchesOf(ObservableFloatValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changeBatchesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link IntChange} whenever the argument {@link ObservableIntegerValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link IntChange} itself.
+     *
+     * @param observableValue The {@link ObservableIntegerValue} to listen to for changes.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<IntChange> fromIntChangesOf(ObservableIntegerValue observableValue)
+    {
+        return fromIntChangesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link IntChange} whenever the argument {@link ObservableIntegerValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link IntChange} itself. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableIntegerValue} to listen to for changes.
+     * @param overflow        What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<IntChange> fromIntChangesOf(ObservableIntegerValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the same {@link IntChange} whenever the argument {@link
+     * ObservableIntegerValue} is changed, overwritten with the values of each change, so nothing at all is allocated
+     * per change. The emitted {@link IntChange} is only valid until the next change, so it must be consumed
+     * synchronously on the JavaFX Application Thread and never kept, buffered or handed to another thread. Changes the
+     * subscriber has not requested are dropped.
+     *
+     * @param observableValue The {@link ObservableIntegerValue} to listen to for changes.
+     * @return A {@link Flux} that emits a reused change that contains both the new and old values of a change.
+     */
+    public static Flux<IntChange> fromReusedIntChangesOf(ObservableIntegerValue observableValue)
+    {
+        return PrimitiveChangeSource.reusedChangesOf(observableValue);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableIntegerValue} once per frame, as
+     * a {@link IntChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame.
+     *
+     * @param observableValue The {@link ObservableIntegerValue} to listen to for changes.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<IntChanges> fromIntChangeBatchesOf(ObservableIntegerValue observableValue)
+    {
+        return fromIntChangeBatchesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableIntegerValue} once per frame, as
+     * a {@link IntChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame. Batches the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableIntegerValue} to listen to for changes.
+     * @param overflow        What to do with batches the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<IntChanges> fromIntChangeBatchesOf(ObservableIntegerValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changeBatchesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link LongChange} whenever the argument {@link ObservableLongValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link LongChange} itself.
+     *
+     * @param observableValue The {@link ObservableLongValue} to listen to for changes.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<LongChange> fromLongChangesOf(ObservableLongValue observableValue)
+    {
+        return fromLongChangesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a {@link LongChange} whenever the argument {@link ObservableLongValue} is
+     * changed. Unlike {@link #fromChangesOf(ObservableValue)} neither value is boxed, so the only allocation per change
+     * is the {@link LongChange} itself. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableLongValue} to listen to for changes.
+     * @param overflow        What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits a change that contains both the new and old values of a change.
+     */
+    public static Flux<LongChange> fromLongChangesOf(ObservableLongValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the same {@link LongChange} whenever the argument {@link ObservableLongValue}
+     * is changed, overwritten with the values of each change, so nothing at all is allocated per change. The emitted
+     * {@link LongChange} is only valid until the next change, so it must be consumed synchronously on the JavaFX
+     * Application Thread and never kept, buffered or handed to another thread. Changes the subscriber has not requested
+     * are dropped.
+     *
+     * @param observableValue The {@link ObservableLongValue} to listen to for changes.
+     * @return A {@link Flux} that emits a reused change that contains both the new and old values of a change.
+     */
+    public static Flux<LongChange> fromReusedLongChangesOf(ObservableLongValue observableValue)
+    {
+        return PrimitiveChangeSource.reusedChangesOf(observableValue);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableLongValue} once per frame, as a
+     * {@link LongChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame.
+     *
+     * @param observableValue The {@link ObservableLongValue} to listen to for changes.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<LongChanges> fromLongChangeBatchesOf(ObservableLongValue observableValue)
+    {
+        return fromLongChangeBatchesOf(observableValue, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the changes of the argument {@link ObservableLongValue} once per frame, as a
+     * {@link LongChanges} batch backed by a single primitive array. A batch is never modified after it has been
+     * emitted, so it can be handed to another thread, and a value that changes thousands of times a second only costs
+     * one batch per frame. Batches the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
+     *
+     * @param observableValue The {@link ObservableLongValue} to listen to for changes.
+     * @param overflow        What to do with batches the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changes of each frame as one batch.
+     */
+    public static Flux<LongChanges> fromLongChangeBatchesOf(ObservableLongValue observableValue, FxOverflow overflow)
+    {
+        return PrimitiveChangeSource.changeBatchesOf(observableValue, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a consistent snapshot of the argument {@link ObservableValue}s whenever any of
+     * them has been invalidated, at most once per pulse. Unlike {@link Flux#combineLatest(Function, Publisher[])} over
+     * {@link #from(ObservableValue)} sources, which emits an intermediate combination for each value as an event updates
+     * them one after the other, the values are only read once per pulse, after the event that changed them has been
+     * handled, so a single event produces a single snapshot in which all of its changes are visible. The values are
+     * passed to the combiner in the order of the arguments and may be null; a null result is not emitted. A snapshot
+     * of the initial values will be emitted as the first emission of this {@link Flux}. While the subscriber has not
+     * requested more, only the latest snapshot is kept.
+     *
+     * @param combiner Combines the values of one snapshot.
+     * @param sources  The {@link ObservableValue}s to take snapshots of.
+     * @param <V>      The type of the combined snapshots.
+     * @return A {@link Flux} that emits a combined snapshot of the argument values whenever they have changed.
+     * @throws IllegalArgumentException if no {@link ObservableValue} is given.
+     */
+    public static <V> Flux<V> fromSnapshotsOf(Function<Object[], ? extends V> combiner, ObservableValue<?>... sources)
+    {
+        return fromSnapshotsOf(combiner, FxOverflow.latest(), sources);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a consistent snapshot of the argument {@link ObservableValue}s whenever any of
+     * them has been invalidated, at most once per pulse. Unlike {@link Flux#combineLatest(Function, Publisher[])} over
+     * {@link #from(ObservableValue)} sources, which emits an intermediate combination for each value as an event updates
+     * them one after the other, the values are only read once per pulse, after the event that changed them has been
+     * handled, so a single event produces a single snapshot in which all of its changes are visible. The values are
+     * passed to the combiner in the order of the arguments and may be null; a null result is not emitted. A snapshot
+     * of the initial values will be emitted as the first emission of this {@link Flux}. While the subscriber has not
+     * requested more, snapshots are handled according to the argument {@link FxOverflow}.
+     *
+     * @param combiner Combines the values of one snapshot.
+     * @param overflow What to do with snapshots the subscriber has not requested yet.
+     * @param sources  The {@link ObservableValue}s to take snapshots of.
+     * @param <V>      The type of the combined snapshots.
+     * @return A {@link Flux} that emits a combined snapshot of the argument values whenever they have changed.
+     * @throws IllegalArgumentException if no {@link ObservableValue} is given.
+     */
+    public static <V> Flux<V> fromSnapshotsOf(Function<Object[], ? extends V> combiner, FxOverflow overflow,
+                                              ObservableValue<?>... sources)
+    {
+        return SnapshotSource.snapshotsOf(combiner, overflow, sources);
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a consistent snapshot of the two argument {@link ObservableValue}s whenever
+     * either of them has been invalidated, at most once per pulse. See {@link #fromSnapshotsOf(Function,
+     * ObservableValue[])}.
+     *
+     * @param first    The first {@link ObservableValue} to take snapshots of.
+     * @param second   The second {@link ObservableValue} to take snapshots of.
+     * @param combiner Combines the values of one snapshot.
+     * @param <A>      The type of the first value.
+     * @param <B>      The type of the second value.
+     * @param <V>      The type of the combined snapshots.
+     * @return A {@link Flux} that emits a combined snapshot of the argument values whenever they have changed.
+     */
+    public static <A, B, V> Flux<V> fromSnapshotsOf(ObservableValue<A> first, ObservableValue<B> second,
+                                                    BiFunction<? super A, ? super B, ? extends V> combiner)
+    {
+        return fromSnapshotsOf(first, second, combiner, FxOverflow.latest());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits a consistent snapshot of the two argument {@link ObservableValue}s whenever
+     * either of them has been invalidated, at most once per pulse. See {@link #fromSnapshotsOf(Function,
+     * FxOverflow, ObservableValue[])}.
+     *
+     * @param first    The first {@link ObservableValue} to take snapshots of.
+     * @param second   The second {@link ObservableValue} to take snapshots of.
+     * @param combiner Combines the values of one snapshot.
+     * @param overflow What to do with snapshots the subscriber has not requested yet.
+     * @param <A>      The type of the first value.
+     * @param <B>      The type of the second value.
+     * @param <V>      The type of the combined snapshots.
+     * @return A {@link Flux} that emits a combined snapshot of the argument values whenever they have changed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, V> Flux<V> fromSnapshotsOf(ObservableValue<A> first, ObservableValue<B> second,
+                                                    BiFunction<? super A, ? super B, ? extends V> combiner,
+                                                    FxOverflow overflow)
+    {
+        return SnapshotSource.snapshotsOf(values -> combiner.apply((A) values[0], (B) values[1]), overflow,
+                                          new ObservableValue<?>[]{first, second});
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the updates of all argument {@link ObservableValue}s through a single shared
+     * listener, keyed by the {@link ObservableValue} that changed. The current value of each of them is emitted first;
+     * after that each {@link ObservableValue} that has changed is emitted at most once per pulse, with its latest
+     * value. Null values are not emitted. Use {@link #group(Collection)} to add and remove values later on.
+     *
+     * @param values The {@link ObservableValue}s to listen to.
+     * @param <T>    The type of the values.
+     * @return A {@link Flux} that emits the updates of the argument values.
+     */
+    public static <T> Flux<KeyedValue<T>> fromAll(Collection<? extends ObservableValue<? extends T>> values)
+    {
+        return fromAll(values, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the updates of all argument {@link ObservableValue}s through a single shared
+     * listener, keyed by the {@link ObservableValue} that changed. The current value of each of them is emitted first;
+     * after that each {@link ObservableValue} that has changed is emitted at most once per pulse, with its latest
+     * value. Null values are not emitted. Updates the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}. Use {@link #group(Collection, FxOverflow)} to add and remove values later on.
+     *
+     * @param values   The {@link ObservableValue}s to listen to.
+     * @param overflow What to do with updates the subscriber has not requested yet.
+     * @param <T>      The type of the values.
+     * @return A {@link Flux} that emits the updates of the argument values.
+     */
+    public static <T> Flux<KeyedValue<T>> fromAll(Collection<? extends ObservableValue<? extends T>> values, FxOverflow overflow)
+    {
+        return group(values, overflow).updates();
+    }
+
+    /**
+     * Creates a {@link FxObservableGroup} of the argument {@link ObservableValue}s, which emits their updates through a
+     * single shared listener, keyed by the {@link ObservableValue} that changed, and to which values can be added and
+     * from which they can be removed while it is subscribed to.
+     *
+     * @param values The initial members of the group.
+     * @param <T>    The type of the values.
+     * @return A {@link FxObservableGroup} of the argument values.
+     */
+    public static <T> FxObservableGroup<T> group(Collection<? extends ObservableValue<? extends T>> values)
+    {
+        return group(values, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link FxObservableGroup} of the argument {@link ObservableValue}s, which emits their updates through a
+     * single shared listener, keyed by the {@link ObservableValue} that changed, and to which values can be added and
+     * from which they can be removed while it is subscribed to. Updates a subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param values   The initial members of the group.
+     * @param overflow What to do with updates a subscriber has not requested yet.
+     * @param <T>      The type of the values.
+     * @return A {@link FxObservableGroup} of the argument values.
+     */
+    public static <T> FxObservableGroup<T> group(Collection<? extends ObservableValue<? extends T>> values, FxOverflow overflow)
+    {
+        return new FxObservableGroup<>(values, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that emits the argument {@link ObservableList} every time it has been updated. The initial
+     * {@link ObservableList} will be emitted as the first emission of this {@link Flux}.
+     *
+     * @param source The {@link ObservableList} to listen to.
+     * @param <T>    The type of the {@link ObservableList}
+     * @return A {@link Flux} that emits the argument list whenever it has ben changed.
+     */
+    public static <T> Flux<ObservableList<T>> from(ObservableList<T> source)
+    {
+        return from(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that emits the argument {@link ObservableList} every time it has been updated. The initial
+     * {@link ObservableList} will be emitted as the first emission of this {@link Flux}. Values the subscriber has not
+     * requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableList} to listen to.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The type of the {@link ObservableList}
+     * @return A {@link Flux} that emits the argument list whenever it has ben changed.
+     */
+    public static <T> Flux<ObservableList<T>> from(ObservableList<T> source, FxOverflow overflow)
+    {
+        return ObservableListSource.observableList(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
+     * additions to the list whenever it has been updated.
+     *
+     * @param source The {@link ObservableList} to listen to.
+     * @param <T>    The type of the {@link ObservableList}.
+     * @return A {@link Flux} that emits the additions to the list whenever it has been changed.
+     */
+    public static <T> Flux<T> fromAdditionsOf(ObservableList<T> source)
+    {
+        return fromAdditionsOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
+     * additions to the list whenever it has been updated. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableList} to listen to.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The type of the {@link ObservableList}.
+     * @return A {@link Flux} that emits the additions to the list whenever it has been changed.
+     */
+    public static <T> Flux<T> fromAdditionsOf(ObservableList<T> source, FxOverflow overflow)
+    {
+        return ObservableListSource.additions(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
+     * removals to the list whenever it has been updated.
+     *
+     * @param source The {@link ObservableList} to listen to.
+     * @param <T>    The type of the {@link ObservableList}.
+     * @return A {@link Flux} that emits the removals to the list whenever it has been changed.
+     */
+    public static <T> Flux<T> fromRemovalsOf(ObservableList<T> source)
+    {
+        return fromRemovalsOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
+     * removals to the list whenever it has been updated. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableList} to listen to.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The type of the {@link ObservableList}.
+     * @return A {@link Flux} that emits the removals to the list whenever it has been changed.
+     */
+    public static <T> Flux<T> fromRemovalsOf(ObservableList<T> source, FxOverflow overflow)
+    {
+        return ObservableListSource.removals(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
+     * changes to the list whenever it has been updated.
+     *
+     * @param <T>    The type of the {@link ObservableList}.
+     * @param source The {@link ObservableList} to listen to.
+     * @return A {@link Flux} that emits the {@link ListChangeListener.Change}s to the list whenever it has been changed
+     */
+    public static <T> Flux<ListChangeListener.Change<? extends T>> fromChangesOf(ObservableList<T> source)
+    {
+        return fromChangesOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableList} and emits all of the
+     * changes to the list whenever it has been updated. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param <T>      The type of the {@link ObservableList}.
+     * @param source   The {@link ObservableList} to listen to.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the {@link ListChangeListener.Change}s to the list whenever it has been changed
+     */
+    public static <T> Flux<ListChangeListener.Change<? extends T>> fromChangesOf(ObservableList<T> source, FxOverflow overflow)
+    {
+        return ObservableListSource.changes(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to am {@link ObservableMap} and emits the argument {@link
+     * ObservableMap} whenever it has been updated. The initial {@link ObservableMap} will be emitted as the first
+     * emission of this {@link Flux}.
+     *
+     * @param source The {@link ObservableMap} to listen to.
+     * @param <T>    The key type of the {@link ObservableMap}.
+     * @param <V>    The value type of the {@link ObservableMap}.
+     * @return A {@link Flux} that emits the {@link ObservableMap} whenever it gets updated.
+     */
+    public static <T, V> Flux<ObservableMap<T, V>> from(ObservableMap<T, V> source)
+    {
+        return from(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to am {@link ObservableMap} and emits the argument {@link
+     * ObservableMap} whenever it has been updated. The initial {@link ObservableMap} will be emitted as the first
+     * emission of this {@link Flux}. Values the subscriber has not requested yet are handled according to the argument
+     * {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableMap} to listen to.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The key type of the {@link ObservableMap}.
+     * @param <V>      The value type of the {@link ObservableMap}.
+     * @return A {@link Flux} that emits the {@link ObservableMap} whenever it gets updated.
+     */
+    public static <T, V> Flux<ObservableMap<T, V>> from(ObservableMap<T, V> source, FxOverflow overflow)
+    {
+        return ObservableMapSource.observableMap(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any additions to the
+     * argument {@link ObservableMap}.
+     *
+     * @param source The {@link ObservableMap} to listen to for additions.
+     * @param <T>    The key type of the {@link ObservableMap}.
+     * @param <V>    The value type of the {@link ObservableMap}.
+     * @return A {@link Flux} that emits any entry added to the argument {@link ObservableMap}.
+     */
+    public static <T, V> Flux<Map.Entry<T, V>> fromAdditionsOf(ObservableMap<T, V> source)
+    {
+        return fromAdditionsOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any additions to the
+     * argument {@link ObservableMap}. Values the subscriber has not requested yet are handled according to the argument
+     * {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableMap} to listen to for additions.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The key type of the {@link ObservableMap}.
+     * @param <V>      The value type of the {@link ObservableMap}.
+     * @return A {@link Flux} that emits any entry added to the argument {@link ObservableMap}.
+     */
+    public static <T, V> Flux<Map.Entry<T, V>> fromAdditionsOf(ObservableMap<T, V> source, FxOverflow overflow)
+    {
+        return ObservableMapSource.additions(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any removals to the
+     * argument {@link ObservableMap}.
+     *
+     * @param source The {@link ObservableMap} to listen to for removals.
+     * @param <T>    The key type of the {@link ObservableMap}.
+     * @param <V>    The value type of the {@link ObservableMap}.
+     * @return A {@link Flux} that emits any entry removed from the argument {@link ObservableMap}.
+     */
+    public static <T, V> Flux<Map.Entry<T, V>> fromRemovalsOf(ObservableMap<T, V> source)
+    {
+        return fromRemovalsOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any removals to the
+     * argument {@link ObservableMap}. Values the subscriber has not requested yet are handled according to the argument
+     * {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableMap} to listen to for removals.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The key type of the {@link ObservableMap}.
+     * @param <V>      The value type of the {@link ObservableMap}.
+     * @return A {@link Flux} that emits any entry removed from the argument {@link ObservableMap}.
+     */
+    public static <T, V> Flux<Map.Entry<T, V>> fromRemovalsOf(ObservableMap<T, V> source, FxOverflow overflow)
+    {
+        return ObservableMapSource.removals(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any changes to the
+     * argument {@link ObservableMap}.
+     *
+     * @param <T>    The key type of the {@link ObservableMap}.
+     * @param <V>    The value type of the {@link ObservableMap}.
+     * @param source The {@link ObservableMap} to listen to for removals.
+     * @return A {@link Flux} that emits the {@link ListChangeListener.Change}s to underlying {@link ObservableMap}.
+     */
+    public static <T, V> Flux<MapChangeListener.Change<? extends T, ? extends V>> fromChangesOf(ObservableMap<T, V> source)
+    {
+        return fromChangesOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableMap} and emits any changes to the argument
+     * {@link ObservableMap}. Values the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
+     *
+     * @param <T>      The key type of the {@link ObservableMap}.
+     * @param <V>      The value type of the {@link ObservableMap}.
+     * @param source   The {@link ObservableMap} to listen to for removals.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the {@link ListChangeListener.Change}s to underlying {@link ObservableMap}.
+     */
+    public static <T, V> Flux<MapChangeListener.Change<? extends T, ? extends V>> fromChangesOf(ObservableMap<T, V> source, FxOverflow overflow)
+    {
+        return ObservableMapSource.changes(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableSet} and emits the set whenever there is a
+     * change to it. The initial {@link ObservableSet} will be emitted as the first emission of this {@link Flux}.
+     *
+     * @param source The {@link ObservableSet} to listen to.
+     * @param <T>    The type contained by the {@link ObservableSet}.
+     * @return A {@link Flux} that emits the argument {@link ObservableSet} whenever it has been updated.
+     */
+    public static <T> Flux<ObservableSet<T>> from(ObservableSet<T> source)
+    {
+        return from(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to an {@link ObservableSet} and emits the set whenever there is a
+     * change to it. The initial {@link ObservableSet} will be emitted as the first emission of this {@link Flux}.
+     * Values the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableSet} to listen to.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The type contained by the {@link ObservableSet}.
+     * @return A {@link Flux} that emits the argument {@link ObservableSet} whenever it has been updated.
+     */
+    public static <T> Flux<ObservableSet<T>> from(ObservableSet<T> source, FxOverflow overflow)
+    {
+        return ObservableSetSource.observableSet(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to {@link ObservableSet} and emits any additions to it.
+     *
+     * @param source The {@link ObservableSet} to listen to for additions.
+     * @param <T>    The type contained by the {@link ObservableSet}.
+     * @return A {@link Flux} that emits any addition to the argument {@link ObservableSet}.
+     */
+    public static <T> Flux<T> fromAdditionsOf(ObservableSet<T> source)
+    {
+        return fromAdditionsOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to {@link ObservableSet} and emits any additions to it. Values
+     * the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableSet} to listen to for additions.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      The type contained by the {@link ObservableSet}.
+     * @return A {@link Flux} that emits any addition to the argument {@link ObservableSet}.
+     */
+    public static <T> Flux<T> fromAdditionsOf(ObservableSet<T> source, FxOverflow overflow)
+    {
+        return ObservableSetSource.additions(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to {@link ObservableSet} and emits any removals to it.
+     *
+     * @param source The {@link ObservableSet} to listen to for removals.
+     * @param <T>    Type contained by the {@link ObservableSet}
+     * @return A {@link Flux} that emits any removals to the argument {@link ObservableSet}.
+     */
+    public static <T> Flux<T> fromRemovalsOf(ObservableSet<T> source)
+    {
+        return fromRemovalsOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to {@link ObservableSet} and emits any removals to it. Values the
+     * subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableSet} to listen to for removals.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      Type contained by the {@link ObservableSet}
+     * @return A {@link Flux} that emits any removals to the argument {@link ObservableSet}.
+     */
+    public static <T> Flux<T> fromRemovalsOf(ObservableSet<T> source, FxOverflow overflow)
+    {
+        return ObservableSetSource.removals(source, overflow);
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableSet} and emits all of the
+     * changes to the set whenever it has been updated.
+     *
+     * @param source The {@link ObservableSet} to listen to for removals.
+     * @param <T>    Type contained by the {@link ObservableSet}
+     * @return A {@link Flux} that emits the {@link SetChangeListener.Change}s to the set whenever it has been changed
+     */
+    public static <T> Flux<SetChangeListener.Change<? extends T>> fromChangesOf(ObservableSet<T> source)
+    {
+        return fromChangesOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a {@link Flux} that listens for changes to the argument {@link ObservableSet} and emits all of the
+     * changes to the set whenever it has been updated. Values the subscriber has not requested yet are handled
+     * according to the argument {@link FxOverflow}.
+     *
+     * @param source   The {@link ObservableSet} to listen to for removals.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @param <T>      Type contained by the {@link ObservableSet}
+     * @return A {@link Flux} that emits the {@link SetChangeListener.Change}s to the set whenever it has been changed
+     */
+    public static <T> Flux<SetChangeListener.Change<? extends T>> fromChangesOf(ObservableSet<T> source, FxOverflow overflow)
+    {
+        return ObservableSetSource.changes(source, overflow);
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the entire array whenever
+     * it has been changed. The initial {@link ObservableIntegerArray} will be emitted as the first emission of this
+     * {@link Flux}.
+     *
+     * @param source - The {@link ObservableIntegerArray} to listen to for changes.
+     * @return A {@link Flux} that emits the argument {@link ObservableIntegerArray} whenever it has been updated.
+     */
+    public static Flux<ObservableIntegerArray> from(ObservableIntegerArray source)
+    {
+        return from(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the entire array whenever
+     * it has been changed. The initial {@link ObservableIntegerArray} will be emitted as the first emission of this
+     * {@link Flux}. Values the subscriber has not requested yet are handled according to the argument {@link
+     * FxOverflow}.
+     *
+     * @param source   - The {@link ObservableIntegerArray} to listen to for changes.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the argument {@link ObservableIntegerArray} whenever it has been updated.
+     */
+    public static Flux<ObservableIntegerArray> from(ObservableIntegerArray source, FxOverflow overflow)
+    {
+        return ObservableArraySource.observableArray(source, overflow);
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the entire array whenever it
+     * has been changed. The initial {@link ObservableFloatArray} will be emitted as the first emission of this {@link
+     * Flux}.
+     *
+     * @param source - The {@link ObservableFloatArray} to listen to for changes.
+     * @return A {@link Flux} that emits the argument {@link ObservableFloatArray} whenever it has been updated.
+     */
+    public static Flux<ObservableFloatArray> from(ObservableFloatArray source)
+    {
+        return from(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the entire array whenever it
+     * has been changed. The initial {@link ObservableFloatArray} will be emitted as the first emission of this {@link
+     * Flux}. Values the subscriber has not requested yet are handled according to the argument {@link FxOverflow}.
+     *
+     * @param source   - The {@link ObservableFloatArray} to listen to for changes.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the argument {@link ObservableFloatArray} whenever it has been updated.
+     */
+    public static Flux<ObservableFloatArray> from(ObservableFloatArray source, FxOverflow overflow)
+    {
+        return ObservableArraySource.observableArray(source, overflow);
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the changed sub-array of
+     * the array whenever it has been changed.
+     *
+     * @param source - The ObservableIntegerArray to listen to for changes.
+     * @return A {@link Flux} that emits the changed sub-array of the argument {@link ObservableIntegerArray} whenever
+     * it has been updated.
+     */
+    public static Flux<ObservableIntegerArray> fromChangedSubArrayOf(ObservableIntegerArray source)
+    {
+        return fromChangedSubArrayOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the changed sub-array of
+     * the array whenever it has been changed. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param source   - The ObservableIntegerArray to listen to for changes.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changed sub-array of the argument {@link ObservableIntegerArray} whenever
+     * it has been updated.
+     */
+    public static Flux<ObservableIntegerArray> fromChangedSubArrayOf(ObservableIntegerArray source, FxOverflow overflow)
+    {
+        return ObservableArraySource.observableIntegerSubArray(source, overflow);
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the {@link ArrayChange} of
+     * the array whenever it has been changed.
+     *
+     * @param source - The ObservableIntegerArray to listen to for changes.
+     * @return A {@link Flux} that emits the changes to the underlying array whenever it has been updated.
+     */
+    public static Flux<ArrayChange<ObservableIntegerArray>> fromChangesOf(ObservableIntegerArray source)
+    {
+        return fromChangesOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableIntegerArray} and emits the {@link ArrayChange} of
+     * the array whenever it has been changed. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param source   - The ObservableIntegerArray to listen to for changes.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changes to the underlying array whenever it has been updated.
+     */
+    public static Flux<ArrayChange<ObservableIntegerArray>> fromChangesOf(ObservableIntegerArray source, FxOverflow overflow)
+    {
+        return ObservableArraySource.observableIntegerChanges(source, overflow);
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the changed sub-array of the
+     * array whenever it has been changed.
+     *
+     * @param source - The ObservableFloatArray to listen to for changes.
      * @return A {@link Flux} that emits the changed sub-array of the argument {@link ObservableFloatArray} whenever it
      * has been updated.
      */
     public static Flux<ObservableFloatArray> fromChangedSubArrayOf(ObservableFloatArray source)
     {
-        return ObservableArraySource.observableFloatSubArray(source);
+        return fromChangedSubArrayOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the changed sub-array of the
+     * array whenever it has been changed. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param source   - The ObservableFloatArray to listen to for changes.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changed sub-array of the argument {@link ObservableFloatArray} whenever it
+     * has been updated.
+     */
+    public static Flux<ObservableFloatArray> fromChangedSubArrayOf(ObservableFloatArray source, FxOverflow overflow)
+    {
+        return ObservableArraySource.observableFloatSubArray(source, overflow);
     }
 
     /**
@@ -499,7 +2039,148 @@ public final class FxFlux
      */
     public static Flux<ArrayChange<ObservableFloatArray>> fromChangesOf(ObservableFloatArray source)
     {
-        return ObservableArraySource.observableFloatChanges(source);
+        return fromChangesOf(source, FxOverflow.unbounded());
+    }
+
+    /**
+     * Creates a Flux that listens for changes to a {@link ObservableFloatArray} and emits the {@link ArrayChange} of
+     * the array whenever it has been changed. Values the subscriber has not requested yet are handled according to the
+     * argument {@link FxOverflow}.
+     *
+     * @param source   - The ObservableFloatArray to listen to for changes.
+     * @param overflow What to do with values the subscriber has not requested yet.
+     * @return A {@link Flux} that emits the changes to the underlying array whenever it has been updated.
+     */
+    public static Flux<ArrayChange<ObservableFloatArray>> fromChangesOf(ObservableFloatArray source, FxOverflow overflow)
+    {
+        return ObservableArraySource.observableFloatChanges(source, overflow);
+    }
+
+    /**
+     * Scopes the argument {@link Flux} to the time the argument {@link Node} is showing, that is attached to a {@link
+     * Scene} whose {@link Window} is showing. The argument {@link Flux} is subscribed to while the node is showing and
+     * cancelled, removing its listeners, while it is not. Each time the node is shown again it is subscribed to anew, so
+     * a {@link Flux} of an {@link ObservableValue} starts over with its current value. Subscribe on the JavaFX
+     * Application Thread.
+     * <pre>
+     * {@code
+     * FxFlux.whileShowing(label, FxFlux.from(model.nameProperty()))
+     * .subscribe(label::setText);
+     * }
+     * </pre>
+     *
+     * @param node   The {@link Node} whose lifecycle to follow.
+     * @param source The {@link Flux} to scope.
+     * @param <T>    The type emitted by the {@link Flux}.
+     * @return A {@link Flux} that only emits while the argument {@link Node} is showing.
+     */
+    public static <T> Flux<T> whileShowing(Node node, Flux<T> source)
+    {
+        return LifecycleSource.whileShowing(LifecycleSource.nodeShowing(node), source);
+    }
+
+    /**
+     * Scopes the argument {@link Flux} to the time the argument {@link Window} is showing, as described by {@link
+     * #whileShowing(Node, Flux)}.
+     *
+     * @param window The {@link Window} whose lifecycle to follow.
+     * @param source The {@link Flux} to scope.
+     * @param <T>    The type emitted by the {@link Flux}.
+     * @return A {@link Flux} that only emits while the argument {@link Window} is showing.
+     */
+    public static <T> Flux<T> whileShowing(Window window, Flux<T> source)
+    {
+        return LifecycleSource.whileShowing(LifecycleSource.windowShowing(window), source);
+    }
+
+    /**
+     * Completes the argument {@link Flux}, cancelling it, the first time the argument {@link Node} stops showing after
+     * it has been shown, for example when it is removed from the scene or its window is hidden. Unlike {@link
+     * #whileShowing(Node, Flux)} the subscription is over for good.
+     *
+     * @param node   The {@link Node} whose lifecycle to follow.
+     * @param source The {@link Flux} to scope.
+     * @param <T>    The type emitted by the {@link Flux}.
+     * @return A {@link Flux} that completes once the argument {@link Node} is no longer showing.
+     */
+    public static <T> Flux<T> untilHidden(Node node, Flux<T> source)
+    {
+        return LifecycleSource.untilHidden(LifecycleSource.nodeShowing(node), source);
+    }
+
+    /**
+     * Completes the argument {@link Flux}, cancelling it, the first time the argument {@link Window} is hidden after it
+     * has been shown.
+     *
+     * @param window The {@link Window} whose lifecycle to follow.
+     * @param source The {@link Flux} to scope.
+     * @param <T>    The type emitted by the {@link Flux}.
+     * @return A {@link Flux} that completes once the argument {@link Window} is hidden.
+     */
+    public static <T> Flux<T> untilHidden(Window window, Flux<T> source)
+    {
+        return LifecycleSource.untilHidden(LifecycleSource.windowShowing(window), source);
+    }
+
+    /**
+     * Creates a {@link Disposable.Composite} for a group of subscriptions that end together, such as those of a view.
+     * Disposing it, from any thread, cancels every subscription in the group in a single task on the JavaFX Application
+     * Thread, where their listeners are removed right away.
+     * <pre>
+     * {@code
+     * Disposable.Composite subscriptions = FxFlux.composite();
+     * subscriptions.add(FxFlux.from(button, MouseEvent.MOUSE_CLICKED).subscribe(e -> save()));
+     * subscriptions.add(FxFlux.from(model.nameProperty()).subscribe(label::setText));
+     * // When the view is closed
+     * subscriptions.dispose();
+     * }
+     * </pre>
+     *
+     * @return A new, empty {@link Disposable.Composite}.
+     */
+    public static Disposable.Composite composite()
+    {
+        return new FxCompositeDisposable();
     }
 
+    /**
+     * The opt-in inventory of the listeners installed by the factories of {@link FxFlux}, which can list and dump them
+     * and detect objects whose number of listeners keeps growing. It records nothing until it is enabled.
+     *
+     * @return The {@link FxListenerRegistry}.
+     */
+    public static FxListenerRegistry registry()
+    {
+        return FxListenerRegistry.INSTANCE;
+    }
+
+    /**
+     * Returns a {@link Flux} that installs the same listener as the argument {@link Flux}, but whose listener only holds
+     * its subscribers weakly. Once a subscriber chain is no longer reachable from anything but the listener, for example
+     * because the {@link Disposable} of a view was dropped instead of disposed, it can be garbage collected together
+     * with everything it references, and the listener is removed the next time it is notified. Keep a reference to the
+     * {@link Disposable} for as long as the subscription should stay alive.
+     *
+     * @param source A {@link Flux} created by one of the factories of {@link FxFlux}.
+     * @param <T>    The type emitted by the {@link Flux}.
+     * @return A {@link Flux} whose listener does not keep its subscribers reachable.
+     * @throws IllegalArgumentException if the argument {@link Flux} was not created by {@link FxFlux}.
+     */
+    public static <T> Flux<T> weak(Flux<T> source)
+    {
+        if (!(source instanceof FxSource))
+        {
+            throw new IllegalArgumentException(source + " was not created by FxFlux");
+        }
+        return ((FxSource<T>) source).weak();
+    }
+
+    /**
+     * @return The number of listeners that have been removed because the subscriber of a {@link #weak(Flux)} source was
+     * garbage collected.
+     */
+    public static long purgedListeners()
+    {
+        return FxSink.purged();
+    }
 }
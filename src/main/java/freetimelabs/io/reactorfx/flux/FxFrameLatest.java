@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+/**
+ * Emits the latest value offered during a frame to a {@link FxSink} once per pulse, dropping the values it replaced. The
+ * timer only runs while a value is pending. Confined to the JavaFX Application Thread.
+ *
+ * @param <T> The type of the values.
+ */
+final class FxFrameLatest<T> extends FxFrameTimer
+{
+    private final FxSink<T> sink;
+    private T pending;
+
+    FxFrameLatest(FxSink<T> sink)
+    {
+        this.sink = sink;
+    }
+
+    void offer(T value)
+    {
+        pending = value;
+        schedule();
+    }
+
+    @Override
+    boolean flush()
+    {
+        T value = pending;
+        if (value == null)
+        {
+            return false;
+        }
+        pending = null;
+        sink.next(value);
+        return true;
+    }
+}
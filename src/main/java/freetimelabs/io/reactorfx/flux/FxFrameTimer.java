@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * An {@link AnimationTimer} that emits what was collected during a frame once per pulse. It is started by {@link
+ * #schedule()} when something is collected and only runs while there is something to emit. Confined to the JavaFX
+ * Application Thread.
+ */
+abstract class FxFrameTimer extends AnimationTimer
+{
+    private boolean running;
+
+    /**
+     * Emits what was collected since the previous frame.
+     *
+     * @return false if nothing was collected.
+     */
+    abstract boolean flush();
+
+    /**
+     * Starts the timer unless it is already running.
+     */
+    final void schedule()
+    {
+        if (!running)
+        {
+            running = true;
+            start();
+        }
+    }
+
+    @Override
+    public final void handle(long now)
+    {
+        if (!flush())
+        {
+            // Stop after an idle frame rather than right away, so that a steady stream of values does not restart the
+            // timer every frame.
+            stop();
+        }
+    }
+
+    @Override
+    public void stop()
+    {
+        running = false;
+        super.stop();
+    }
+}
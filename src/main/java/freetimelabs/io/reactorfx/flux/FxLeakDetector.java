@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import reactor.core.Disposable;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A daemon thread that periodically counts the listeners recorded by a {@link FxListenerRegistry} for each observed
+ * object and reports the objects whose count keeps growing.
+ */
+final class FxLeakDetector implements Disposable, Runnable
+{
+    private final FxListenerRegistry registry;
+    private final long intervalNanos;
+    private final int growths;
+    private final Consumer<? super List<FxListenerInfo>> onLeak;
+    private final Thread thread;
+    // Only ever touched from the detector thread. The keys hold the observed objects weakly.
+    private final Map<FxListenerRegistry.Source, Trend> trends = new IdentityHashMap<>();
+    private volatile boolean disposed;
+
+    FxLeakDetector(FxListenerRegistry registry, long intervalNanos, int growths,
+                   Consumer<? super List<FxListenerInfo>> onLeak)
+    {
+        this.registry = registry;
+        this.intervalNanos = intervalNanos;
+        this.growths = growths;
+        this.onLeak = onLeak;
+        this.thread = new Thread(this, "fx-leak-detector");
+        this.thread.setDaemon(true);
+    }
+
+    FxLeakDetector start()
+    {
+        thread.start();
+        return this;
+    }
+
+    @Override
+    public void run()
+    {
+        while (!disposed)
+        {
+            LockSupport.parkNanos(this, intervalNanos);
+            if (!disposed)
+            {
+                DisposeUtilities.run(this::sample);
+            }
+        }
+    }
+
+    private void sample()
+    {
+        Map<FxListenerRegistry.Source, Integer> counts = registry.counts();
+        trends.keySet()
+              .retainAll(counts.keySet());
+        for (Map.Entry<FxListenerRegistry.Source, Integer> count : counts.entrySet())
+        {
+            Trend trend = trends.computeIfAbsent(count.getKey(), source -> new Trend());
+            if (trend.grew(count.getValue(), growths))
+            {
+                List<FxListenerInfo> listeners = registry.listeners(count.getKey());
+                if (!listeners.isEmpty())
+                {
+                    onLeak.accept(listeners);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void dispose()
+    {
+        disposed = true;
+        LockSupport.unpark(thread);
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return disposed;
+    }
+
+    private static final class Trend
+    {
+        private int count;
+        private int growths;
+
+        /**
+         * @return True if the count has now grown in the argument number of samples without shrinking in between.
+         */
+        boolean grew(int next, int threshold)
+        {
+            if (next > count)
+            {
+                growths++;
+            }
+            else if (next < count)
+            {
+                growths = 0;
+            }
+            count = next;
+            if (growths >= threshold)
+            {
+                growths = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+}
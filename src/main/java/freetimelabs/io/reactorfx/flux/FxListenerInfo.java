@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.event.EventType;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Describes a listener installed by {@link FxFlux} and recorded by the {@link FxListenerRegistry}, as it was when the
+ * description was taken.
+ */
+public final class FxListenerInfo
+{
+    private final String name;
+    private final Object source;
+    @Nullable
+    private final EventType<?> eventType;
+    private final Duration age;
+    private final long notifications;
+    private final Throwable subscribed;
+
+    FxListenerInfo(String name, Object source, @Nullable EventType<?> eventType, Duration age, long notifications,
+                   Throwable subscribed)
+    {
+        this.name = name;
+        this.source = source;
+        this.eventType = eventType;
+        this.age = age;
+        this.notifications = notifications;
+        this.subscribed = subscribed;
+    }
+
+    /**
+     * @return The description of the {@link reactor.core.publisher.Flux} that installed the listener, for example
+     * {@code FxFlux.from(Button, MOUSE_CLICKED)}.
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * @return The object the listener is installed on.
+     */
+    public Object getSource()
+    {
+        return source;
+    }
+
+    /**
+     * @return The type of the events the listener receives, or null if it is not an event handler or filter.
+     */
+    @Nullable
+    public EventType<?> getEventType()
+    {
+        return eventType;
+    }
+
+    /**
+     * @return How long the listener had been installed.
+     */
+    public Duration getAge()
+    {
+        return age;
+    }
+
+    /**
+     * @return How often the listener had been notified.
+     */
+    public long getNotifications()
+    {
+        return notifications;
+    }
+
+    /**
+     * The stack of the thread that subscribed, starting at the first frame outside of Reactor and ReactorFX. When the
+     * subscription was made by a scheduler, such as with {@code subscribeOn}, it is the stack of the scheduler.
+     *
+     * @return Where the listener was installed.
+     */
+    public StackTraceElement[] getStackTrace()
+    {
+        StackTraceElement[] stackTrace = subscribed.getStackTrace();
+        int first = 0;
+        while (first < stackTrace.length - 1 && isInternal(stackTrace[first]))
+        {
+            first++;
+        }
+        return Arrays.copyOfRange(stackTrace, first, stackTrace.length);
+    }
+
+    @Override
+    public String toString()
+    {
+        return name + " installed on " + describe(source) + " " + age.toMillis() + " ms ago, notified " + notifications
+                + " times";
+    }
+
+    static String describe(Object source)
+    {
+        return FxSource.describe(source) + "@" + Integer.toHexString(System.identityHashCode(source));
+    }
+
+    private static boolean isInternal(StackTraceElement element)
+    {
+        String className = element.getClassName();
+        return className.startsWith("reactor.") || className.startsWith(FxListenerInfo.class.getPackage()
+                                                                                           .getName() + ".");
+    }
+}
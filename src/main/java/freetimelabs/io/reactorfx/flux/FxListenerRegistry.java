@@ -0,0 +1,343 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.event.EventType;
+import reactor.core.Disposable;
+import reactor.util.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * An opt-in inventory of the listeners installed by {@link FxFlux}. While it is enabled, every listener, handler and
+ * filter installed for a subscription is recorded together with the object it is installed on, its {@link EventType},
+ * where it was subscribed, when, and how often it has been notified, until it is removed again. The registry records
+ * subscriptions rather than what is installed in the JavaFX dispatch chain: the subscribers of a source that shares a
+ * single handler, such as {@link FxFlux#from(javafx.scene.Node, EventType)} or a {@link FxEventDelegate}, are recorded
+ * once each, so a subscription that is never disposed shows up even though it adds no handler of its own. Recording
+ * captures a stack trace per subscription, so it is meant for development and diagnosis rather than to be left enabled. The
+ * registry holds the observed objects weakly and never keeps them from being collected. Available from {@link
+ * FxFlux#registry()}.
+ * <pre>
+ * {@code
+ * FxFlux.registry().enable();
+ * Disposable detector = FxFlux.registry()
+ *     .detectLeaks(Duration.ofSeconds(10), 3, listeners -> log.warn("Growing listeners: {}", listeners));
+ * ...
+ * System.out.println(FxFlux.registry().dump());
+ * }
+ * </pre>
+ */
+public final class FxListenerRegistry
+{
+    static final FxListenerRegistry INSTANCE = new FxListenerRegistry();
+
+    private volatile boolean enabled;
+    // The observed objects by identity hash code, guarded by this.
+    private final Map<Integer, List<Source>> sources = new HashMap<>();
+
+    private FxListenerRegistry()
+    {
+        // Singleton
+    }
+
+    /**
+     * Starts recording the listeners installed from now on. Listeners that are already installed are not recorded.
+     */
+    public void enable()
+    {
+        enabled = true;
+    }
+
+    /**
+     * Stops recording listeners and forgets those recorded so far.
+     */
+    public synchronized void disable()
+    {
+        enabled = false;
+        sources.clear();
+    }
+
+    /**
+     * @return True if listeners are being recorded.
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * @return A snapshot of the recorded listeners that are currently installed, grouped by the object they are
+     * installed on.
+     */
+    public synchronized List<FxListenerInfo> listeners()
+    {
+        List<FxListenerInfo> listeners = new ArrayList<>();
+        long now = System.nanoTime();
+        for (Source source : sources())
+        {
+            source.describe(now, listeners);
+        }
+        return listeners;
+    }
+
+    /**
+     * Describes every recorded listener that is currently installed, one per line, each object they are installed on
+     * preceded by the number of listeners installed on it and each listener followed by where it was subscribed.
+     *
+     * @return A readable description of the recorded listeners.
+     */
+    public String dump()
+    {
+        List<FxListenerInfo> listeners = listeners();
+        StringBuilder sb = new StringBuilder().append(listeners.size())
+                                              .append(" listeners");
+        Object source = this;
+        for (int i = 0; i < listeners.size(); i++)
+        {
+            FxListenerInfo listener = listeners.get(i);
+            if (listener.getSource() != source)
+            {
+                source = listener.getSource();
+                int count = 1;
+                while (i + count < listeners.size() && listeners.get(i + count)
+                                                                .getSource() == source)
+                {
+                    count++;
+                }
+                sb.append(System.lineSeparator())
+                  .append(FxListenerInfo.describe(source))
+                  .append(": ")
+                  .append(count);
+            }
+            sb.append(System.lineSeparator())
+              .append('\t')
+              .append(listener);
+            for (StackTraceElement element : listener.getStackTrace())
+            {
+                sb.append(System.lineSeparator())
+                  .append("\t\tat ")
+                  .append(element);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Starts a detector that flags objects whose number of recorded listeners keeps growing, the usual sign of
+     * subscriptions that are made over and over but never disposed. The detector is a daemon thread that counts the
+     * recorded listeners of each object once per interval. An object is reported once its count has grown in the
+     * argument number of samples without shrinking in between; the listeners installed on it are handed to the
+     * argument callback on the detector thread, after which its count has to grow as often again to be reported anew.
+     * Only listeners recorded while the registry is enabled are counted.
+     *
+     * @param interval The time between two samples.
+     * @param growths  The number of samples in which the count has to grow.
+     * @param onLeak   The callback receiving the listeners of an object whose count kept growing.
+     * @return A {@link Disposable} that stops the detector.
+     * @throws IllegalArgumentException if the interval is not positive or the number of growths is less than 1.
+     */
+    public Disposable detectLeaks(Duration interval, int growths, Consumer<? super List<FxListenerInfo>> onLeak)
+    {
+        if (interval.isNegative() || interval.isZero())
+        {
+            throw new IllegalArgumentException("interval must be positive, was " + interval);
+        }
+        if (growths < 1)
+        {
+            throw new IllegalArgumentException("growths must be at least 1, was " + growths);
+        }
+        return new FxLeakDetector(this, interval.toNanos(), growths, onLeak).start();
+    }
+
+    /**
+     * @return A new entry for a listener of the argument {@link FxSource}, or null if the registry is disabled.
+     */
+    @Nullable
+    Entry entry(FxSource.Name name)
+    {
+        if (!enabled)
+        {
+            return null;
+        }
+        return new Entry(name.toString(), name.eventType(), System.nanoTime(), new Throwable());
+    }
+
+    /**
+     * Records the argument entry as installed until the returned removal runs.
+     *
+     * @param entry  The entry of the installed listener.
+     * @param object The object the listener is installed on.
+     * @param remove The action that removes the listener.
+     * @return The action that removes the listener and its entry.
+     */
+    synchronized Runnable add(Entry entry, Object object, Runnable remove)
+    {
+        if (!enabled)
+        {
+            return remove;
+        }
+        int hash = System.identityHashCode(object);
+        List<Source> bucket = sources.computeIfAbsent(hash, h -> new ArrayList<>(1));
+        Source source = null;
+        for (Source candidate : bucket)
+        {
+            if (candidate.get() == object)
+            {
+                source = candidate;
+                break;
+            }
+        }
+        if (source == null)
+        {
+            source = new Source(object, hash);
+            bucket.add(source);
+        }
+        source.entries.add(entry);
+        Source installedOn = source;
+        return () ->
+        {
+            remove(installedOn, entry);
+            remove.run();
+        };
+    }
+
+    /**
+     * @return The number of recorded listeners of each observed object, for the {@link FxLeakDetector}.
+     */
+    synchronized Map<Source, Integer> counts()
+    {
+        Map<Source, Integer> counts = new IdentityHashMap<>();
+        for (Source source : sources())
+        {
+            counts.put(source, source.entries.size());
+        }
+        return counts;
+    }
+
+    /**
+     * @return The listeners of the argument object, for the {@link FxLeakDetector}.
+     */
+    synchronized List<FxListenerInfo> listeners(Source source)
+    {
+        List<FxListenerInfo> listeners = new ArrayList<>();
+        source.describe(System.nanoTime(), listeners);
+        return listeners;
+    }
+
+    private synchronized void remove(Source source, Entry entry)
+    {
+        if (source.entries.remove(entry) && source.entries.isEmpty())
+        {
+            List<Source> bucket = sources.get(source.hash);
+            if (bucket != null && bucket.remove(source) && bucket.isEmpty())
+            {
+                sources.remove(source.hash);
+            }
+        }
+    }
+
+    /**
+     * @return The observed objects that have not been collected, forgetting those that have. Must hold the lock.
+     */
+    private List<Source> sources()
+    {
+        List<Source> live = new ArrayList<>();
+        for (Iterator<List<Source>> buckets = sources.values()
+                                                     .iterator(); buckets.hasNext(); )
+        {
+            List<Source> bucket = buckets.next();
+            // Listeners die with the object they are installed on, without ever being removed.
+            bucket.removeIf(source -> source.get() == null);
+            if (bucket.isEmpty())
+            {
+                buckets.remove();
+            }
+            live.addAll(bucket);
+        }
+        return live;
+    }
+
+    /**
+     * An observed object, held weakly, and the entries of the listeners installed on it.
+     */
+    static final class Source extends WeakReference<Object>
+    {
+        private final int hash;
+        private final Set<Entry> entries = new LinkedHashSet<>();
+
+        private Source(Object source, int hash)
+        {
+            super(source);
+            this.hash = hash;
+        }
+
+        private void describe(long now, List<FxListenerInfo> listeners)
+        {
+            Object source = get();
+            if (source == null)
+            {
+                return;
+            }
+            for (Entry entry : entries)
+            {
+                listeners.add(new FxListenerInfo(entry.name, source, entry.eventType, Duration.ofNanos(now - entry.created),
+                                                 entry.notified, entry.stackTrace));
+            }
+        }
+    }
+
+    /**
+     * The record of one installed listener, which does not reference the object it is installed on. Notifications are
+     * counted by the single thread the listener is invoked on.
+     */
+    static final class Entry
+    {
+        private static final AtomicLongFieldUpdater<Entry> NOTIFIED = AtomicLongFieldUpdater.newUpdater(Entry.class, "notified");
+
+        private final String name;
+        @Nullable
+        private final EventType<?> eventType;
+        private final long created;
+        private final Throwable stackTrace;
+        private volatile long notified;
+
+        private Entry(String name, @Nullable EventType<?> eventType, long created, Throwable stackTrace)
+        {
+            this.name = name;
+            this.eventType = eventType;
+            this.created = created;
+            this.stackTrace = stackTrace;
+        }
+
+        void notified()
+        {
+            NOTIFIED.lazySet(this, notified + 1);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.application.Platform;
+import javafx.event.EventHandler;
+import javafx.scene.input.MouseEvent;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * An event handler that copies mouse events into a fixed set of preallocated {@link MouseSamples} and emits a batch to
+ * a {@link FxSink} once it is full, or at the end of the frame. Subscribers return batches by releasing them, and
+ * batches the {@link FxOverflow} drops or the subscriber cancels are returned by the sink. While none is free the
+ * current batch keeps the most recent samples, overwriting the oldest ones, so no event allocates and the memory held
+ * never grows; the timer then stops until a batch is released. Confined to the JavaFX Application Thread, apart from
+ * {@link #release(MouseSamples)}.
+ */
+final class FxMouseSampler extends FxFrameTimer implements EventHandler<MouseEvent>
+{
+    private static final AtomicIntegerFieldUpdater<FxMouseSampler> STARVED = AtomicIntegerFieldUpdater.newUpdater(FxMouseSampler.class, "starved");
+
+    private final FxSink<MouseSamples> sink;
+    private final Queue<MouseSamples> pool;
+    private MouseSamples current;
+    // 1 while samples are pending but no batch is free, so that the next release schedules the timer again.
+    private volatile int starved;
+
+    FxMouseSampler(FxSink<MouseSamples> sink, int batchSize, int batches)
+    {
+        this.sink = sink;
+        this.pool = new ArrayBlockingQueue<>(batches);
+        this.current = new MouseSamples(this, batchSize);
+        for (int i = 1; i < batches; i++)
+        {
+            pool.offer(new MouseSamples(this, batchSize));
+        }
+        sink.onDiscard(MouseSamples::release);
+    }
+
+    @Override
+    public void handle(MouseEvent event)
+    {
+        if (current.add(event, System.nanoTime()))
+        {
+            emit();
+        }
+        schedule();
+    }
+
+    @Override
+    boolean flush()
+    {
+        return current.size() != 0 && emit();
+    }
+
+    /**
+     * Returns a released batch to the pool. May be called from any thread.
+     */
+    void release(MouseSamples batch)
+    {
+        pool.offer(batch);
+        if (starved == 1 && STARVED.compareAndSet(this, 1, 0))
+        {
+            Platform.runLater(() ->
+            {
+                if (!sink.isCancelled())
+                {
+                    schedule();
+                }
+            });
+        }
+    }
+
+    /**
+     * Emits the current batch and continues with a free one.
+     *
+     * @return False if no batch is free, in which case the current one is kept.
+     */
+    private boolean emit()
+    {
+        MouseSamples next = pool.poll();
+        if (next == null)
+        {
+            starved = 1;
+            // Polled again, as a batch released before the flag was set did not see it.
+            next = pool.poll();
+            if (next == null)
+            {
+                return false;
+            }
+            starved = 0;
+        }
+        next.reset();
+        MouseSamples full = current;
+        current = next;
+        sink.next(full);
+        return true;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import reactor.core.publisher.Flux;
+import reactor.util.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Observes any number of {@link ObservableValue}s through a single {@link InvalidationListener} instance and emits
+ * their updates onto one {@link Flux}, keyed by the {@link ObservableValue} that changed. Observing the properties of
+ * thousands of row models this way costs one listener reference per property instead of a {@link Flux}, a sink and a
+ * listener each. An invalidation only marks its {@link ObservableValue} dirty; once per pulse every dirty value is read
+ * and emitted, so a property that changes many times during a frame is emitted once, with its latest value, and a lazy
+ * binding is not recomputed in between. The listener is installed on the members while {@link #updates()} has
+ * subscribers. Created with {@link FxFlux#group(Collection)} or {@link FxFlux#group(Collection, FxOverflow)}.
+ * <pre>
+ * {@code
+ * FxObservableGroup<Number> prices = FxFlux.group(rows.stream()
+ *                                                     .map(Row::priceProperty)
+ *                                                     .collect(Collectors.toList()));
+ * prices.updates()
+ *       .subscribe(update -> repaint(update.getSource()));
+ * prices.add(newRow.priceProperty());
+ * }
+ * </pre>
+ * Members are added and removed on the JavaFX Application Thread, where they are modified.
+ *
+ * @param <T> The type of the values.
+ */
+public final class FxObservableGroup<T>
+{
+    private static final FxSink<?>[] EMPTY = new FxSink<?>[0];
+
+    private final Set<ObservableValue<? extends T>> members = new LinkedHashSet<>();
+    // Only accessed on the JavaFX Application Thread.
+    private final Set<ObservableValue<? extends T>> dirty = new LinkedHashSet<>();
+    private final InvalidationListener listener = this::invalidated;
+    private final Timer timer = new Timer();
+    private final Flux<KeyedValue<T>> updates;
+    @SuppressWarnings("unchecked")
+    private volatile FxSink<KeyedValue<T>>[] sinks = (FxSink<KeyedValue<T>>[]) EMPTY;
+
+    FxObservableGroup(Collection<? extends ObservableValue<? extends T>> values, FxOverflow overflow)
+    {
+        this.members.addAll(values);
+        this.updates = new FxSource<>(FxSource.name("group", this), overflow, sink ->
+        {
+            subscribe(sink);
+            return () -> unsubscribe(sink);
+        });
+    }
+
+    /**
+     * Creates a {@link Flux} which emits the current value of every member followed by the values of the members that
+     * have changed, each at most once per pulse. Null values are not emitted.
+     *
+     * @return A {@link Flux} that emits the updates of the members of this group.
+     */
+    public Flux<KeyedValue<T>> updates()
+    {
+        return updates;
+    }
+
+    /**
+     * Adds the argument {@link ObservableValue} to this group. If there are subscribers its current value is emitted
+     * with the next pulse. Must be called on the JavaFX Application Thread.
+     *
+     * @param value The {@link ObservableValue} to observe.
+     * @return True if it was not a member yet.
+     */
+    public synchronized boolean add(ObservableValue<? extends T> value)
+    {
+        if (!members.add(value))
+        {
+            return false;
+        }
+        if (sinks.length > 0)
+        {
+            value.addListener(listener);
+            markDirty(value);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the argument {@link ObservableValue} from this group. Its pending update, if any, is not emitted. Must be
+     * called on the JavaFX Application Thread.
+     *
+     * @param value The {@link ObservableValue} to stop observing.
+     * @return True if it was a member.
+     */
+    public synchronized boolean remove(ObservableValue<? extends T> value)
+    {
+        if (!members.remove(value))
+        {
+            return false;
+        }
+        if (sinks.length > 0)
+        {
+            value.removeListener(listener);
+        }
+        dirty.remove(value);
+        return true;
+    }
+
+    /**
+     * @return The number of members of this group.
+     */
+    public synchronized int size()
+    {
+        return members.size();
+    }
+
+    private synchronized void subscribe(FxSink<KeyedValue<T>> sink)
+    {
+        FxSink<KeyedValue<T>>[] current = sinks;
+        for (ObservableValue<? extends T> member : members)
+        {
+            if (current.length == 0)
+            {
+                member.addListener(listener);
+            }
+            KeyedValue<T> update = read(member);
+            if (update != null)
+            {
+                sink.next(update);
+            }
+        }
+        FxSink<KeyedValue<T>>[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = sink;
+        sinks = next;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void unsubscribe(FxSink<KeyedValue<T>> sink)
+    {
+        FxSink<KeyedValue<T>>[] current = sinks;
+        int i = Arrays.asList(current)
+                      .indexOf(sink);
+        if (i < 0)
+        {
+            return;
+        }
+        if (current.length > 1)
+        {
+            FxSink<KeyedValue<T>>[] next = (FxSink<KeyedValue<T>>[]) new FxSink<?>[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, next.length - i);
+            sinks = next;
+            return;
+        }
+        sinks = (FxSink<KeyedValue<T>>[]) EMPTY;
+        for (ObservableValue<? extends T> member : members)
+        {
+            member.removeListener(listener);
+        }
+        dirty.clear();
+        timer.stop();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invalidated(Observable observable)
+    {
+        markDirty((ObservableValue<? extends T>) observable);
+    }
+
+    private void markDirty(ObservableValue<? extends T> value)
+    {
+        dirty.add(value);
+        timer.schedule();
+    }
+
+    private void emitDirty()
+    {
+        // Copied first, since a subscriber may add, remove or change members while the updates are emitted.
+        List<ObservableValue<? extends T>> changed = new ArrayList<>(dirty);
+        dirty.clear();
+        for (ObservableValue<? extends T> member : changed)
+        {
+            KeyedValue<T> update = read(member);
+            if (update != null)
+            {
+                for (FxSink<KeyedValue<T>> sink : sinks)
+                {
+                    sink.next(update);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the current value of the argument member, which also validates it, so that it notifies the listener again
+     * on its next change.
+     *
+     * @return The update of the member, or null if its value is null.
+     */
+    @Nullable
+    private KeyedValue<T> read(ObservableValue<? extends T> member)
+    {
+        T value = member.getValue();
+        return value == null ? null : new KeyedValue<>(member, value);
+    }
+
+    /**
+     * Flushes the dirty members once per pulse, and only runs while members are dirty.
+     */
+    private final class Timer extends FxFrameTimer
+    {
+        @Override
+        boolean flush()
+        {
+            if (dirty.isEmpty())
+            {
+                return false;
+            }
+            emitDirty();
+            return true;
+        }
+    }
+}
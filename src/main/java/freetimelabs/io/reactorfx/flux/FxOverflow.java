@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+/**
+ * Decides what a {@link FxFlux} source does with values its subscriber has not requested yet, for example while a
+ * {@code publishOn} further downstream is still busy with earlier values. The {@link FxFlux} factories of events,
+ * values and collection changes have an overload that takes a {@link FxOverflow}; the overloads without one use
+ * {@link #unbounded()} unless their documentation says otherwise.
+ * <pre>
+ * {@code
+ * Flux<MouseEvent> moves = FxFlux.from(canvas, MouseEvent.MOUSE_MOVED, FxOverflow.latest())
+ *                                .publishOn(Schedulers.parallel());
+ * }
+ * </pre>
+ */
+public final class FxOverflow
+{
+    private static final FxOverflow UNBOUNDED = new FxOverflow(Mode.BUFFER, Integer.MAX_VALUE);
+    private static final FxOverflow LATEST = new FxOverflow(Mode.LATEST, 1);
+    private static final FxOverflow DROP = new FxOverflow(Mode.DROP, 0);
+    private static final FxOverflow ERROR = new FxOverflow(Mode.ERROR, 0);
+
+    final Mode mode;
+    final int maxSize;
+
+    private FxOverflow(Mode mode, int maxSize)
+    {
+        this.mode = mode;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Buffers every value until it is requested. This is the default, and it lets memory grow without limit if the
+     * subscriber falls behind for good.
+     *
+     * @return The unbounded {@link FxOverflow}.
+     */
+    public static FxOverflow unbounded()
+    {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Buffers up to the argument number of values until they are requested, and drops any value that does not fit.
+     *
+     * @param maxSize The maximum number of values to buffer.
+     * @return A bounded {@link FxOverflow}.
+     * @throws IllegalArgumentException if the argument size is not positive.
+     */
+    public static FxOverflow buffer(int maxSize)
+    {
+        if (maxSize <= 0)
+        {
+            throw new IllegalArgumentException("maxSize must be positive, was " + maxSize);
+        }
+        return new FxOverflow(Mode.BUFFER, maxSize);
+    }
+
+    /**
+     * Keeps only the most recent value that has not been requested yet, replacing the one before it.
+     *
+     * @return The latest-wins {@link FxOverflow}.
+     */
+    public static FxOverflow latest()
+    {
+        return LATEST;
+    }
+
+    /**
+     * Drops every value that is emitted while the subscriber has no outstanding demand.
+     *
+     * @return The dropping {@link FxOverflow}.
+     */
+    public static FxOverflow drop()
+    {
+        return DROP;
+    }
+
+    /**
+     * Terminates the {@link reactor.core.publisher.Flux} with an overflow {@link IllegalStateException} as soon as a
+     * value is emitted while the subscriber has no outstanding demand.
+     *
+     * @return The failing {@link FxOverflow}.
+     */
+    public static FxOverflow error()
+    {
+        return ERROR;
+    }
+
+    enum Mode
+    {
+        BUFFER,
+        LATEST,
+        DROP,
+        ERROR
+    }
+}
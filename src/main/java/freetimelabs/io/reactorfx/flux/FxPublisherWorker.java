@@ -0,0 +1,283 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.concurrent.Worker;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.annotation.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Presents a {@link Publisher} subscribed on a Reactor {@link Scheduler} as a {@link Worker}. Signals arrive on the
+ * scheduler and are folded into a few atomics; a single {@link Platform#runLater(Runnable)} callback at a time copies
+ * them to the properties, so a fast {@link Publisher} costs the JavaFX Application Thread at most one update per
+ * callback. The value is the latest value emitted and the work done is the number of values emitted. The total work is
+ * unknown, so the progress stays indeterminate until the {@link Publisher} terminates.
+ *
+ * @param <T> The type of the values.
+ */
+final class FxPublisherWorker<T> implements Worker<T>
+{
+    private static final Object COMPLETED = new Object();
+
+    private final ReadOnlyObjectWrapper<State> state = new ReadOnlyObjectWrapper<>(this, "state", State.SCHEDULED);
+    private final ReadOnlyObjectWrapper<T> value = new ReadOnlyObjectWrapper<>(this, "value");
+    private final ReadOnlyObjectWrapper<Throwable> exception = new ReadOnlyObjectWrapper<>(this, "exception");
+    private final ReadOnlyDoubleWrapper workDone = new ReadOnlyDoubleWrapper(this, "workDone", -1);
+    private final ReadOnlyDoubleWrapper totalWork = new ReadOnlyDoubleWrapper(this, "totalWork", -1);
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(this, "progress", -1);
+    private final ReadOnlyBooleanWrapper running = new ReadOnlyBooleanWrapper(this, "running", true);
+    private final ReadOnlyStringWrapper message = new ReadOnlyStringWrapper(this, "message", "");
+    private final ReadOnlyStringWrapper title = new ReadOnlyStringWrapper(this, "title", "");
+
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicReference<T> latest = new AtomicReference<>();
+    private final AtomicLong emitted = new AtomicLong();
+    // The terminal signal: COMPLETED or the error, null until the Publisher terminates.
+    private final AtomicReference<Object> terminal = new AtomicReference<>();
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    private final Disposable.Swap subscription = Disposables.swap();
+
+    private FxPublisherWorker()
+    {
+    }
+
+    /**
+     * Creates a {@link FxPublisherWorker} and subscribes it to the argument {@link Publisher}, which is only done once
+     * the worker has been constructed so that no signal can reach it before.
+     */
+    static <T> FxPublisherWorker<T> start(Publisher<T> source, Scheduler scheduler)
+    {
+        FxPublisherWorker<T> worker = new FxPublisherWorker<>();
+        worker.subscription.update(Flux.from(source)
+                                       .doOnSubscribe(s ->
+                                       {
+                                           worker.started.set(true);
+                                           worker.scheduleUpdate();
+                                       })
+                                       .subscribeOn(scheduler)
+                                       .subscribe(worker::onNext, worker::onError, worker::onComplete));
+        return worker;
+    }
+
+    @Override
+    public boolean cancel()
+    {
+        if (!running.get())
+        {
+            return false;
+        }
+        subscription.dispose();
+        running.set(false);
+        state.set(State.CANCELLED);
+        return true;
+    }
+
+    private void onNext(T t)
+    {
+        latest.set(t);
+        emitted.incrementAndGet();
+        scheduleUpdate();
+    }
+
+    private void onError(Throwable e)
+    {
+        terminal.compareAndSet(null, e);
+        scheduleUpdate();
+    }
+
+    private void onComplete()
+    {
+        terminal.compareAndSet(null, COMPLETED);
+        scheduleUpdate();
+    }
+
+    private void scheduleUpdate()
+    {
+        if (updateScheduled.compareAndSet(false, true))
+        {
+            Platform.runLater(this::update);
+        }
+    }
+
+    private void update()
+    {
+        // Cleared before reading, so signals arriving during the update either are read here or schedule the next one.
+        updateScheduled.set(false);
+        if (!running.get())
+        {
+            return;
+        }
+        if (started.get() && state.get() == State.SCHEDULED)
+        {
+            state.set(State.RUNNING);
+        }
+        long count = emitted.get();
+        if (count > 0)
+        {
+            value.set(latest.get());
+            workDone.set(count);
+        }
+        Object signal = terminal.get();
+        if (signal == null)
+        {
+            return;
+        }
+        running.set(false);
+        if (signal == COMPLETED)
+        {
+            progress.set(1);
+            state.set(State.SUCCEEDED);
+        }
+        else if (signal instanceof CancellationException)
+        {
+            state.set(State.CANCELLED);
+        }
+        else
+        {
+            exception.set((Throwable) signal);
+            state.set(State.FAILED);
+        }
+    }
+
+    @Override
+    public State getState()
+    {
+        return state.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<State> stateProperty()
+    {
+        return state.getReadOnlyProperty();
+    }
+
+    @Override
+    @Nullable
+    public T getValue()
+    {
+        return value.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<T> valueProperty()
+    {
+        return value.getReadOnlyProperty();
+    }
+
+    @Override
+    @Nullable
+    public Throwable getException()
+    {
+        return exception.get();
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<Throwable> exceptionProperty()
+    {
+        return exception.getReadOnlyProperty();
+    }
+
+    @Override
+    public double getWorkDone()
+    {
+        return workDone.get();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty workDoneProperty()
+    {
+        return workDone.getReadOnlyProperty();
+    }
+
+    @Override
+    public double getTotalWork()
+    {
+        return totalWork.get();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty totalWorkProperty()
+    {
+        return totalWork.getReadOnlyProperty();
+    }
+
+    @Override
+    public double getProgress()
+    {
+        return progress.get();
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty progressProperty()
+    {
+        return progress.getReadOnlyProperty();
+    }
+
+    @Override
+    public boolean isRunning()
+    {
+        return running.get();
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty runningProperty()
+    {
+        return running.getReadOnlyProperty();
+    }
+
+    @Override
+    public String getMessage()
+    {
+        return message.get();
+    }
+
+    @Override
+    public ReadOnlyStringProperty messageProperty()
+    {
+        return message.getReadOnlyProperty();
+    }
+
+    @Override
+    public String getTitle()
+    {
+        return title.get();
+    }
+
+    @Override
+    public ReadOnlyStringProperty titleProperty()
+    {
+        return title.getReadOnlyProperty();
+    }
+}
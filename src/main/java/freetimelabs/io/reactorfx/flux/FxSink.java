@@ -0,0 +1,505 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.Scannable;
+import reactor.core.publisher.Operators;
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The emitting side of a {@link FxSource}. JavaFX only invokes listeners on the JavaFX Application Thread, so {@link
+ * #next(Object)} always has a single producer and, unlike the sink of {@link reactor.core.publisher.Flux#create}, does
+ * not need to serialize concurrent callers. While there is outstanding demand and nothing is buffered a value is handed
+ * straight to the subscriber. Otherwise the {@link FxOverflow} decides whether it is buffered until the subscriber
+ * requests more.
+ * <p>
+ * A weak {@link FxSink} holds its subscriber through a {@link WeakReference}. The listener only keeps the sink alive,
+ * while the subscriber chain is kept alive by whoever holds its {@link Disposable}, so a chain that is no longer
+ * referenced can be collected even though the listener is still installed. Like a {@link
+ * javafx.beans.value.WeakChangeListener}, the sink then removes its listener on the next notification.
+ *
+ * @param <T> The type emitted to the subscriber.
+ */
+final class FxSink<T> implements Subscription, Scannable
+{
+    private static final Disposable CANCELLED = () -> {};
+    private static final LongAdder PURGED = new LongAdder();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<FxSink> REQUESTED = AtomicLongFieldUpdater.newUpdater(FxSink.class, "requested");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<FxSink> WIP = AtomicIntegerFieldUpdater.newUpdater(FxSink.class, "wip");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<FxSink, Disposable> DISPOSABLE = AtomicReferenceFieldUpdater.newUpdater(FxSink.class, Disposable.class, "disposable");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<FxSink, Object> LATEST = AtomicReferenceFieldUpdater.newUpdater(FxSink.class, Object.class, "latest");
+
+    // Exactly one of the two is set, depending on whether the sink is weak.
+    @Nullable
+    private final CoreSubscriber<? super T> actual;
+    @Nullable
+    private final WeakReference<CoreSubscriber<? super T>> weakActual;
+    private final String name;
+    private final FxOverflow overflow;
+
+    private volatile long requested;
+    private volatile int wip;
+    private volatile Disposable disposable;
+    // Only ever assigned by the producer, the first time a value has to be buffered.
+    private volatile Queue<T> queue;
+    // The single buffered value of FxOverflow.latest(), which never uses the queue.
+    private volatile T latest;
+    private volatile boolean done;
+    private Throwable error;
+    // Set before the listener is installed, if the FxListenerRegistry is enabled.
+    @Nullable
+    private FxListenerRegistry.Entry entry;
+    // Invoked after each request, for sources that only produce a value once it is requested.
+    @Nullable
+    private volatile Runnable onRequest;
+    // Invoked with each value that is dropped rather than emitted, for sources that reuse their values.
+    @Nullable
+    private volatile Consumer<? super T> onDiscard;
+
+    FxSink(CoreSubscriber<? super T> actual, String name, FxOverflow overflow, boolean weak)
+    {
+        this.actual = weak ? null : actual;
+        this.weakActual = weak ? new WeakReference<>(actual) : null;
+        this.name = name;
+        this.overflow = overflow;
+    }
+
+    /**
+     * @return The number of listeners that have been removed because the subscriber of a weak {@link FxSink} was
+     * garbage collected.
+     */
+    static long purged()
+    {
+        return PURGED.sum();
+    }
+
+    /**
+     * Emits a value to the subscriber, or hands it to the {@link FxOverflow} if the subscriber has no outstanding
+     * demand. Must only be called from the thread that installed the listener.
+     *
+     * @param t The value to emit.
+     */
+    void next(T t)
+    {
+        // Listeners are removed asynchronously when cancelled off the JavaFX Application Thread, so late values are
+        // expected and silently ignored.
+        if (done || isCancelled())
+        {
+            discard(t);
+            return;
+        }
+        FxListenerRegistry.Entry e = entry;
+        if (e != null)
+        {
+            e.notified();
+        }
+        CoreSubscriber<? super T> a = actual();
+        if (a == null)
+        {
+            purge();
+            discard(t);
+            return;
+        }
+        if (wip == 0 && WIP.compareAndSet(this, 0, 1))
+        {
+            long r = requested;
+            if (r != 0 && isEmpty(queue))
+            {
+                a.onNext(t);
+                if (r != Long.MAX_VALUE)
+                {
+                    REQUESTED.decrementAndGet(this);
+                }
+            }
+            else
+            {
+                buffer(t);
+            }
+            if (WIP.decrementAndGet(this) == 0)
+            {
+                return;
+            }
+        }
+        else
+        {
+            buffer(t);
+            if (WIP.getAndIncrement(this) != 0)
+            {
+                return;
+            }
+        }
+        drainLoop();
+    }
+
+    /**
+     * Terminates the sequence with an error once everything buffered has been emitted.
+     *
+     * @param e The error to terminate with.
+     */
+    void error(Throwable e)
+    {
+        if (isCancelled())
+        {
+            return;
+        }
+        if (done)
+        {
+            CoreSubscriber<? super T> a = actual();
+            if (a != null)
+            {
+                Operators.onErrorDropped(e, a.currentContext());
+            }
+            return;
+        }
+        error = e;
+        done = true;
+        drain();
+    }
+
+    /**
+     * Completes the sequence once everything buffered has been emitted.
+     */
+    void complete()
+    {
+        if (done || isCancelled())
+        {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    void track(FxListenerRegistry.Entry entry)
+    {
+        this.entry = entry;
+    }
+
+    /**
+     * Sets the action invoked, on the requesting thread, each time the subscriber requests more values.
+     */
+    void onRequest(Runnable onRequest)
+    {
+        this.onRequest = onRequest;
+    }
+
+    /**
+     * Sets the action invoked with each value that is not emitted, because the {@link FxOverflow} dropped or replaced it
+     * or because the subscriber cancelled while it was buffered.
+     */
+    void onDiscard(Consumer<? super T> onDiscard)
+    {
+        this.onDiscard = onDiscard;
+    }
+
+    /**
+     * @return True if the subscriber has requested values that have not been emitted yet.
+     */
+    boolean hasRequested()
+    {
+        return requested != 0;
+    }
+
+    boolean isCancelled()
+    {
+        return disposable == CANCELLED;
+    }
+
+    void setDisposable(Disposable d)
+    {
+        if (!DISPOSABLE.compareAndSet(this, null, d))
+        {
+            d.dispose();
+        }
+    }
+
+    @Override
+    public void request(long n)
+    {
+        if (Operators.validate(n))
+        {
+            Operators.addCap(REQUESTED, this, n);
+            drain();
+            Runnable r = onRequest;
+            if (r != null)
+            {
+                r.run();
+            }
+        }
+    }
+
+    @Override
+    public void cancel()
+    {
+        Disposable d = DISPOSABLE.getAndSet(this, CANCELLED);
+        if (d != CANCELLED)
+        {
+            if (d != null)
+            {
+                d.dispose();
+            }
+            drain();
+        }
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("rawtypes")
+    public Object scanUnsafe(Attr key)
+    {
+        if (key == Attr.NAME)
+        {
+            return name;
+        }
+        if (key == Attr.ACTUAL)
+        {
+            return actual();
+        }
+        if (key == Attr.REQUESTED_FROM_DOWNSTREAM)
+        {
+            return requested;
+        }
+        if (key == Attr.BUFFERED)
+        {
+            Queue<T> q = queue;
+            return (q == null ? 0 : q.size()) + (latest == null ? 0 : 1);
+        }
+        if (key == Attr.CANCELLED)
+        {
+            return isCancelled();
+        }
+        if (key == Attr.CAPACITY)
+        {
+            return overflow.maxSize;
+        }
+        if (key == Attr.TERMINATED)
+        {
+            return done;
+        }
+        if (key == Attr.ERROR)
+        {
+            return error;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void buffer(T t)
+    {
+        Queue<T> q = queue;
+        long r = requested;
+        switch (overflow.mode)
+        {
+            case LATEST:
+                discard((T) LATEST.getAndSet(this, t));
+                return;
+            case DROP:
+                if (r == 0 || r != Long.MAX_VALUE && q != null && q.size() >= r)
+                {
+                    discard(t);
+                    return;
+                }
+                break;
+            case ERROR:
+                if (r == 0 || r != Long.MAX_VALUE && q != null && q.size() >= r)
+                {
+                    error(Exceptions.failWithOverflow());
+                    discard(t);
+                    return;
+                }
+                break;
+            default:
+                if (q != null && q.size() >= overflow.maxSize)
+                {
+                    discard(t);
+                    return;
+                }
+        }
+        if (q == null)
+        {
+            q = Queues.<T>unbounded(Queues.XS_BUFFER_SIZE)
+                    .get();
+            queue = q;
+        }
+        q.offer(t);
+    }
+
+    private void drain()
+    {
+        if (WIP.getAndIncrement(this) == 0)
+        {
+            drainLoop();
+        }
+    }
+
+    @Nullable
+    private CoreSubscriber<? super T> actual()
+    {
+        return weakActual == null ? actual : weakActual.get();
+    }
+
+    private void purge()
+    {
+        Disposable d = DISPOSABLE.getAndSet(this, CANCELLED);
+        if (d != CANCELLED)
+        {
+            PURGED.increment();
+            if (d != null)
+            {
+                d.dispose();
+            }
+            clear(queue);
+        }
+    }
+
+    private void drainLoop()
+    {
+        CoreSubscriber<? super T> a = actual();
+        if (a == null)
+        {
+            purge();
+            return;
+        }
+        int missed = 1;
+        for (; ; )
+        {
+            Queue<T> q = queue;
+            long r = requested;
+            long e = 0;
+            while (e != r)
+            {
+                if (isCancelled())
+                {
+                    clear(q);
+                    return;
+                }
+                boolean d = done;
+                T t = poll(q);
+                if (t == null)
+                {
+                    if (d)
+                    {
+                        terminate(a);
+                        return;
+                    }
+                    break;
+                }
+                a.onNext(t);
+                e++;
+            }
+            if (isCancelled())
+            {
+                clear(q);
+                return;
+            }
+            if (done && isEmpty(q))
+            {
+                terminate(a);
+                return;
+            }
+            if (e != 0 && r != Long.MAX_VALUE)
+            {
+                REQUESTED.addAndGet(this, -e);
+            }
+            missed = WIP.addAndGet(this, -missed);
+            if (missed == 0)
+            {
+                break;
+            }
+        }
+    }
+
+    private void terminate(CoreSubscriber<? super T> a)
+    {
+        Disposable d = DISPOSABLE.getAndSet(this, CANCELLED);
+        if (d != CANCELLED && d != null)
+        {
+            d.dispose();
+        }
+        Throwable e = error;
+        if (e != null)
+        {
+            a.onError(e);
+        }
+        else
+        {
+            a.onComplete();
+        }
+    }
+
+    private boolean isEmpty(@Nullable Queue<T> q)
+    {
+        return (q == null || q.isEmpty()) && latest == null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private T poll(@Nullable Queue<T> q)
+    {
+        if (q != null)
+        {
+            return q.poll();
+        }
+        return latest == null ? null : (T) LATEST.getAndSet(this, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void clear(@Nullable Queue<T> q)
+    {
+        if (q != null)
+        {
+            if (onDiscard == null)
+            {
+                q.clear();
+            }
+            else
+            {
+                for (T t = q.poll(); t != null; t = q.poll())
+                {
+                    discard(t);
+                }
+            }
+        }
+        discard((T) LATEST.getAndSet(this, null));
+    }
+
+    private void discard(@Nullable T t)
+    {
+        Consumer<? super T> d = onDiscard;
+        if (d != null && t != null)
+        {
+            d.accept(t);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.event.EventType;
+import reactor.core.CoreSubscriber;
+import reactor.core.Exceptions;
+import reactor.core.Scannable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.annotation.Nullable;
+
+import java.util.StringJoiner;
+
+import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
+
+/**
+ * A {@link Flux} that emits what a JavaFX listener receives. Each subscriber gets its own {@link FxSink}, which applies
+ * the {@link FxOverflow} and is handed to the {@link Registration} to install the listener. A weak {@link FxSource}
+ * creates weak {@link FxSink}s, which do not keep their subscribers from being collected.
+ *
+ * @param <T> The type emitted by this {@link Flux}.
+ */
+final class FxSource<T> extends Flux<T> implements Scannable
+{
+    private final Name name;
+    private final FxOverflow overflow;
+    private final Registration<T> registration;
+    private final boolean weak;
+
+    FxSource(Name name, FxOverflow overflow, Registration<T> registration)
+    {
+        this(name, overflow, registration, false);
+    }
+
+    private FxSource(Name name, FxOverflow overflow, Registration<T> registration, boolean weak)
+    {
+        this.name = name;
+        this.overflow = overflow;
+        this.registration = registration;
+        this.weak = weak;
+    }
+
+    /**
+     * @return A {@link FxSource} that installs the same listeners, but holds its subscribers weakly.
+     */
+    FxSource<T> weak()
+    {
+        return weak ? this : new FxSource<>(name.wrap("FxFlux.weak(", ")"), overflow, registration, true);
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual)
+    {
+        FxSink<T> sink = new FxSink<>(actual, name.toString(), overflow, weak);
+        actual.onSubscribe(sink);
+        if (sink.isCancelled())
+        {
+            return;
+        }
+        try
+        {
+            FxListenerRegistry.Entry entry = FxListenerRegistry.INSTANCE.entry(name);
+            if (entry == null)
+            {
+                sink.setDisposable(onFx(registration.register(sink)));
+            }
+            else
+            {
+                sink.track(entry);
+                sink.setDisposable(onFx(FxListenerRegistry.INSTANCE.add(entry, name.source(), registration.register(sink))));
+            }
+        }
+        catch (Throwable t)
+        {
+            Exceptions.throwIfJvmFatal(t);
+            sink.error(Operators.onOperatorError(t, actual.currentContext()));
+        }
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("rawtypes")
+    public Object scanUnsafe(Attr key)
+    {
+        if (key == Attr.NAME)
+        {
+            return name.toString();
+        }
+        if (key == Attr.CAPACITY)
+        {
+            return overflow.maxSize;
+        }
+        return null;
+    }
+
+    /**
+     * Describes a call to a {@link FxFlux} factory for {@link Attr#NAME}, naming sources by their class and event types
+     * by their name, for example {@code FxFlux.from(Button, MOUSE_CLICKED)}.
+     */
+    static Name name(String factory, Object source, Object... arguments)
+    {
+        StringJoiner joiner = new StringJoiner(", ", "FxFlux." + factory + "(", ")");
+        joiner.add(describe(source));
+        EventType<?> eventType = null;
+        for (Object argument : arguments)
+        {
+            joiner.add(describe(argument));
+            if (eventType == null && argument instanceof EventType)
+            {
+                eventType = (EventType<?>) argument;
+            }
+        }
+        return new Name(joiner.toString(), source, eventType);
+    }
+
+    static String describe(Object argument)
+    {
+        if (argument instanceof EventType)
+        {
+            return argument.toString();
+        }
+        Class<?> type = argument.getClass();
+        while (type.isAnonymousClass())
+        {
+            type = type.getSuperclass();
+        }
+        return type.getSimpleName();
+    }
+
+    /**
+     * The description of a {@link FxSource} together with the JavaFX object and {@link EventType} it listens to, which
+     * the {@link FxListenerRegistry} records for each subscription.
+     */
+    static final class Name
+    {
+        private final String text;
+        private final Object source;
+        @Nullable
+        private final EventType<?> eventType;
+
+        private Name(String text, Object source, @Nullable EventType<?> eventType)
+        {
+            this.text = text;
+            this.source = source;
+            this.eventType = eventType;
+        }
+
+        Object source()
+        {
+            return source;
+        }
+
+        @Nullable
+        EventType<?> eventType()
+        {
+            return eventType;
+        }
+
+        Name wrap(String prefix, String suffix)
+        {
+            return new Name(prefix + text + suffix, source, eventType);
+        }
+
+        @Override
+        public String toString()
+        {
+            return text;
+        }
+    }
+
+    /**
+     * Installs a JavaFX listener that emits to a {@link FxSink}.
+     *
+     * @param <T> The type emitted to the {@link FxSink}.
+     */
+    @FunctionalInterface
+    interface Registration<T>
+    {
+        /**
+         * @param sink The {@link FxSink} to emit to.
+         * @return The action that removes the listener again.
+         */
+        Runnable register(FxSink<T> sink);
+    }
+}
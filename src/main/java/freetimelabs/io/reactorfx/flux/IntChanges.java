@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package freetimelabs.io.reactorfx.flux;
+
+/**
+ * The changes of a {@link javafx.beans.value.ObservableIntegerValue} during one frame, emitted by {@link
+ * FxFlux#fromIntChangeBatchesOf(javafx.beans.value.ObservableIntegerValue)}. The values are held in a single primitive
+ * array in the order they were set, each new value being the old value of the next change, so a batch can be handed to
+ * another thread without boxing anything.
+ */
+public final class IntChanges
+{
+    private final int[] values;
+    private final int size;
+
+    IntChanges(int[] values, int size)
+    {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * @return The number of changes in this batch.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @param i The index of the change, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The value before the change.
+     */
+    public int getOldVal(int i)
+    {
+        return values[index(i)];
+    }
+
+    /**
+     * @param i The index of the change, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The value after the change.
+     */
+    public int getNewVal(int i)
+    {
+        return values[index(i) + 1];
+    }
+
+    private int index(int i)
+    {
+        if (i < 0 || i >= size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return i;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.beans.value.ObservableValue;
+
+/**
+ * The new value of one member of a {@link FxObservableGroup}, together with the {@link ObservableValue} it belongs to.
+ *
+ * @param <T> The type of the value.
+ */
+public final class KeyedValue<T>
+{
+    private final ObservableValue<? extends T> source;
+    private final T value;
+
+    KeyedValue(ObservableValue<? extends T> source, T value)
+    {
+        this.source = source;
+        this.value = value;
+    }
+
+    /**
+     * @return The {@link ObservableValue} that has changed.
+     */
+    public ObservableValue<? extends T> getSource()
+    {
+        return source;
+    }
+
+    /**
+     * @return The value of the {@link ObservableValue} at the time it was emitted.
+     */
+    public T getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "KeyedValue{source=" + source + ", value=" + value + "}";
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import reactor.core.publisher.Flux;
+
+/**
+ * Contains the flux sources that tell whether a {@link Node} or {@link Window} is showing, and the operators that scope
+ * other sources to it.
+ */
+class LifecycleSource
+{
+    static <T> Flux<T> whileShowing(Flux<Boolean> showing, Flux<T> source)
+    {
+        // Switching to an empty Flux cancels the source, which removes its listeners, and switching back subscribes to
+        // it again, so that sources of a current value start over from a fresh snapshot.
+        return showing.switchMap(isShowing -> isShowing ? source : Flux.empty());
+    }
+
+    static <T> Flux<T> untilHidden(Flux<Boolean> showing, Flux<T> source)
+    {
+        return source.takeUntilOther(showing.skipWhile(isShowing -> !isShowing)
+                                            .filter(isShowing -> !isShowing));
+    }
+
+    /**
+     * Emits whether the argument {@link Node} is showing, that is attached to a {@link Scene} whose {@link Window} is
+     * showing, first right away and then each time that changes.
+     */
+    static Flux<Boolean> nodeShowing(Node source)
+    {
+        return new FxSource<>(FxSource.name("showing", source), FxOverflow.latest(), sink ->
+        {
+            final NodeShowing tracker = new NodeShowing(source, sink);
+            return tracker::dispose;
+        });
+    }
+
+    /**
+     * Emits whether the argument {@link Window} is showing, first right away and then each time that changes.
+     */
+    static Flux<Boolean> windowShowing(Window source)
+    {
+        return new FxSource<>(FxSource.name("showing", source), FxOverflow.latest(), sink ->
+        {
+            final InvalidationListener listener = new InvalidationListener()
+            {
+                private boolean showing = source.isShowing();
+
+                @Override
+                public void invalidated(Observable observable)
+                {
+                    if (showing != source.isShowing())
+                    {
+                        showing = !showing;
+                        sink.next(showing);
+                    }
+                }
+            };
+            sink.next(source.isShowing());
+            source.showingProperty()
+                  .addListener(listener);
+            return () -> source.showingProperty()
+                               .removeListener(listener);
+        });
+    }
+
+    /**
+     * Follows a {@link Node} to its {@link Scene} and on to its {@link Window}, moving its listeners along as either
+     * changes. Every value is read again on each invalidation, which keeps the observed properties valid.
+     */
+    private static final class NodeShowing implements InvalidationListener
+    {
+        private final Node node;
+        private final FxSink<Boolean> sink;
+        private Scene scene;
+        private Window window;
+        private Boolean showing;
+
+        NodeShowing(Node node, FxSink<Boolean> sink)
+        {
+            this.node = node;
+            this.sink = sink;
+            node.sceneProperty()
+                .addListener(this);
+            update();
+        }
+
+        @Override
+        public void invalidated(Observable observable)
+        {
+            update();
+        }
+
+        void dispose()
+        {
+            node.sceneProperty()
+                .removeListener(this);
+            follow(null, null);
+        }
+
+        private void update()
+        {
+            Scene currentScene = node.getScene();
+            Window currentWindow = currentScene == null ? null : currentScene.getWindow();
+            follow(currentScene, currentWindow);
+            boolean currentlyShowing = currentWindow != null && currentWindow.isShowing();
+            if (showing == null || showing != currentlyShowing)
+            {
+                showing = currentlyShowing;
+                sink.next(currentlyShowing);
+            }
+        }
+
+        private void follow(Scene nextScene, Window nextWindow)
+        {
+            if (scene != nextScene)
+            {
+                if (scene != null)
+                {
+                    scene.windowProperty()
+                         .removeListener(this);
+                }
+                scene = nextScene;
+                if (nextScene != null)
+                {
+                    nextScene.windowProperty()
+                             .addListener(this);
+                }
+            }
+            if (window != nextWindow)
+            {
+                if (window != null)
+                {
+                    window.showingProperty()
+                          .removeListener(this);
+                }
+                window = nextWindow;
+                if (nextWindow != null)
+                {
+                    nextWindow.showingProperty()
+                              .addListener(this);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.scene.input.MouseEvent;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A batch of mouse samples emitted by {@link FxFlux#fromMouseSamples(javafx.scene.Node, javafx.event.EventType)}. The
+ * fields of each {@link MouseEvent} are copied into primitive arrays, so a batch holds no reference to the event, its
+ * source or its target. Batches are preallocated and reused: call {@link #release()} exactly once when done with a
+ * batch, after which it must no longer be read.
+ */
+public final class MouseSamples
+{
+    /**
+     * The bit set in {@link #getButtons(int)} while the primary button is down.
+     */
+    public static final int PRIMARY = 1;
+
+    /**
+     * The bit set in {@link #getButtons(int)} while the secondary button is down.
+     */
+    public static final int SECONDARY = 2;
+
+    /**
+     * The bit set in {@link #getButtons(int)} while the middle button is down.
+     */
+    public static final int MIDDLE = 4;
+
+    private static final AtomicIntegerFieldUpdater<MouseSamples> RELEASED = AtomicIntegerFieldUpdater.newUpdater(MouseSamples.class, "released");
+
+    private final FxMouseSampler sampler;
+    private final double[] x;
+    private final double[] y;
+    private final double[] screenX;
+    private final double[] screenY;
+    private final int[] buttons;
+    private final long[] timestamp;
+    private int start;
+    private int size;
+    private long dropped;
+    private volatile int released;
+
+    MouseSamples(FxMouseSampler sampler, int capacity)
+    {
+        this.sampler = sampler;
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.screenX = new double[capacity];
+        this.screenY = new double[capacity];
+        this.buttons = new int[capacity];
+        this.timestamp = new long[capacity];
+    }
+
+    /**
+     * @return The number of samples in this batch.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * The number of samples that were overwritten before this batch was emitted, because every other batch was still
+     * waiting to be released.
+     *
+     * @return The number of samples lost before the samples of this batch.
+     */
+    public long getDropped()
+    {
+        return dropped;
+    }
+
+    /**
+     * @param i The index of the sample, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The horizontal position relative to the source of the event.
+     */
+    public double getX(int i)
+    {
+        return x[index(i)];
+    }
+
+    /**
+     * @param i The index of the sample, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The vertical position relative to the source of the event.
+     */
+    public double getY(int i)
+    {
+        return y[index(i)];
+    }
+
+    /**
+     * @param i The index of the sample, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The absolute horizontal position on the screen.
+     */
+    public double getScreenX(int i)
+    {
+        return screenX[index(i)];
+    }
+
+    /**
+     * @param i The index of the sample, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The absolute vertical position on the screen.
+     */
+    public double getScreenY(int i)
+    {
+        return screenY[index(i)];
+    }
+
+    /**
+     * @param i The index of the sample, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The buttons that were down, as a combination of {@link #PRIMARY}, {@link #SECONDARY} and {@link #MIDDLE}.
+     */
+    public int getButtons(int i)
+    {
+        return buttons[index(i)];
+    }
+
+    /**
+     * @param i The index of the sample, from 0 (oldest) to {@link #size()} (exclusive).
+     * @return The {@link System#nanoTime()} at which the event was received.
+     */
+    public long getTimestamp(int i)
+    {
+        return timestamp[index(i)];
+    }
+
+    /**
+     * Returns this batch so that it can be filled again. Calling this more than once has no effect.
+     */
+    public void release()
+    {
+        if (RELEASED.compareAndSet(this, 0, 1))
+        {
+            sampler.release(this);
+        }
+    }
+
+    /**
+     * Prepares this batch to be filled again after it was taken from the pool.
+     */
+    void reset()
+    {
+        this.start = 0;
+        this.size = 0;
+        this.dropped = 0;
+        this.released = 0;
+    }
+
+    /**
+     * Copies the fields of the argument event, overwriting the oldest sample if this batch is full.
+     *
+     * @return True if this batch is full after adding the event.
+     */
+    boolean add(MouseEvent event, long now)
+    {
+        int capacity = x.length;
+        int i;
+        if (size < capacity)
+        {
+            i = slot(size++);
+        }
+        else
+        {
+            i = start;
+            start = slot(1);
+            dropped++;
+        }
+        x[i] = event.getX();
+        y[i] = event.getY();
+        screenX[i] = event.getScreenX();
+        screenY[i] = event.getScreenY();
+        buttons[i] = (event.isPrimaryButtonDown() ? PRIMARY : 0) | (event.isSecondaryButtonDown() ? SECONDARY : 0) | (event.isMiddleButtonDown() ? MIDDLE : 0);
+        timestamp[i] = now;
+        return size == capacity;
+    }
+
+    private int index(int i)
+    {
+        if (i < 0 || i >= size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return slot(i);
+    }
+
+    /**
+     * @return The position in the ring buffer of the sample at the argument offset from the oldest one.
+     */
+    private int slot(int i)
+    {
+        int slot = start + i;
+        return slot < x.length ? slot : slot - x.length;
+    }
+}
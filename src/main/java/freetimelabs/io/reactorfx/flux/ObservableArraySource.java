@@ -19,76 +19,74 @@ package freetimelabs.io.reactorfx.flux;
 import javafx.collections.*;
 import reactor.core.publisher.Flux;
 
-import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
-
 class ObservableArraySource
 {
-    static <T extends ObservableArray<T>> Flux<T> observableArray(T source)
+    static <T extends ObservableArray<T>> Flux<T> observableArray(T source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("from", source), overflow, sink ->
         {
-            final ArrayChangeListener<T> listener = (arr, sizeChanged, from, to) -> emitter.next(source);
+            final ArrayChangeListener<T> listener = (arr, sizeChanged, from, to) -> sink.next(source);
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
-            emitter.next(source);
+            sink.next(source);
+            return () -> source.removeListener(listener);
         });
     }
 
-    static Flux<ObservableIntegerArray> observableIntegerSubArray(ObservableIntegerArray source)
+    static Flux<ObservableIntegerArray> observableIntegerSubArray(ObservableIntegerArray source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangedSubArrayOf", source), overflow, sink ->
         {
             final ArrayChangeListener<ObservableIntegerArray> listener = (arr, sizeChanged, from, to) ->
             {
                 ObservableIntegerArray newArr = FXCollections.observableIntegerArray();
                 newArr.addAll(arr, from, to - from);
-                emitter.next(newArr);
+                sink.next(newArr);
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static Flux<ArrayChange<ObservableIntegerArray>> observableIntegerChanges(ObservableIntegerArray source)
+    static Flux<ArrayChange<ObservableIntegerArray>> observableIntegerChanges(ObservableIntegerArray source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangesOf", source), overflow, sink ->
         {
             final ArrayChangeListener<ObservableIntegerArray> listener = (arr, sizeChanged, from, to) ->
             {
                 ArrayChange<ObservableIntegerArray> change = new ArrayChange<>(arr, sizeChanged, from, to);
-                emitter.next(change);
+                sink.next(change);
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static Flux<ObservableFloatArray> observableFloatSubArray(ObservableFloatArray source)
+    static Flux<ObservableFloatArray> observableFloatSubArray(ObservableFloatArray source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangedSubArrayOf", source), overflow, sink ->
         {
             final ArrayChangeListener<ObservableFloatArray> listener = (arr, sizeChanged, from, to) ->
             {
                 ObservableFloatArray newArr = FXCollections.observableFloatArray();
                 newArr.addAll(arr, from, to - from);
-                emitter.next(newArr);
+                sink.next(newArr);
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static Flux<ArrayChange<ObservableFloatArray>> observableFloatChanges(ObservableFloatArray source)
+    static Flux<ArrayChange<ObservableFloatArray>> observableFloatChanges(ObservableFloatArray source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangesOf", source), overflow, sink ->
         {
             final ArrayChangeListener<ObservableFloatArray> listener = (arr, sizeChanged, from, to) ->
             {
                 ArrayChange<ObservableFloatArray> change = new ArrayChange<>(arr, sizeChanged, from, to);
-                emitter.next(change);
+                sink.next(change);
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 }
@@ -20,28 +20,26 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import reactor.core.publisher.Flux;
 
-import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
-
 /**
  * Contains all flux sources for {@link ObservableList}
  */
 class ObservableListSource
 {
 
-    static <T> Flux<ObservableList<T>> observableList(ObservableList<T> source)
+    static <T> Flux<ObservableList<T>> observableList(ObservableList<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("from", source), overflow, sink ->
         {
-            final ListChangeListener<T> listener = c -> emitter.next(source);
+            final ListChangeListener<T> listener = c -> sink.next(source);
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
-            emitter.next(source);
+            sink.next(source);
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T> Flux<T> removals(ObservableList<T> source)
+    static <T> Flux<T> removals(ObservableList<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromRemovalsOf", source), overflow, sink ->
         {
             final ListChangeListener<T> listener = c ->
             {
@@ -50,19 +48,19 @@ class ObservableListSource
                     if (c.wasRemoved())
                     {
                         c.getRemoved()
-                         .forEach(emitter::next);
+                         .forEach(sink::next);
                     }
                 }
 
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T> Flux<T> additions(ObservableList<T> source)
+    static <T> Flux<T> additions(ObservableList<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromAdditionsOf", source), overflow, sink ->
         {
             final ListChangeListener<T> listener = c ->
             {
@@ -71,30 +69,30 @@ class ObservableListSource
                     if (c.wasAdded())
                     {
                         c.getAddedSubList()
-                         .forEach(emitter::next);
+                         .forEach(sink::next);
                     }
                 }
 
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T> Flux<ListChangeListener.Change<? extends T>> changes(ObservableList<T> source)
+    static <T> Flux<ListChangeListener.Change<? extends T>> changes(ObservableList<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangesOf", source), overflow, sink ->
         {
             final ListChangeListener<T> listener = new ListChangeListener<T>() {
                 @Override
                 public void onChanged(Change<? extends T> c) {
                     if (c.next()) {
-                        emitter.next(c);
+                        sink.next(c);
                     }
                 }
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 }
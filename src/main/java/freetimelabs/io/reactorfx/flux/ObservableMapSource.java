@@ -23,63 +23,61 @@ import reactor.core.publisher.Flux;
 import java.util.AbstractMap;
 import java.util.Map;
 
-import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
-
 /**
  * Source for all fluxes from {@link ObservableMap}
  */
 class ObservableMapSource
 {
-    static <T, V> Flux<ObservableMap<T, V>> observableMap(ObservableMap<T, V> source)
+    static <T, V> Flux<ObservableMap<T, V>> observableMap(ObservableMap<T, V> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("from", source), overflow, sink ->
         {
-            final MapChangeListener<T, V> listener = c -> emitter.next(source);
+            final MapChangeListener<T, V> listener = c -> sink.next(source);
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
-            emitter.next(source);
+            sink.next(source);
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T, V> Flux<Map.Entry<T, V>> additions(ObservableMap<T, V> source)
+    static <T, V> Flux<Map.Entry<T, V>> additions(ObservableMap<T, V> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromAdditionsOf", source), overflow, sink ->
         {
             final MapChangeListener<T, V> listener = change ->
             {
                 if (change.wasAdded())
                 {
-                    emitter.next(new AbstractMap.SimpleEntry<>(change.getKey(), change.getValueAdded()));
+                    sink.next(new AbstractMap.SimpleEntry<>(change.getKey(), change.getValueAdded()));
                 }
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T, V> Flux<Map.Entry<T, V>> removals(ObservableMap<T, V> source)
+    static <T, V> Flux<Map.Entry<T, V>> removals(ObservableMap<T, V> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromRemovalsOf", source), overflow, sink ->
         {
             final MapChangeListener<T, V> listener = change ->
             {
                 if (change.wasRemoved())
                 {
-                    emitter.next(new AbstractMap.SimpleEntry<>(change.getKey(), change.getValueRemoved()));
+                    sink.next(new AbstractMap.SimpleEntry<>(change.getKey(), change.getValueRemoved()));
                 }
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T, V> Flux<MapChangeListener.Change<? extends T, ? extends V>> changes(ObservableMap<T, V> source)
+    static <T, V> Flux<MapChangeListener.Change<? extends T, ? extends V>> changes(ObservableMap<T, V> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangesOf", source), overflow, sink ->
         {
-            final MapChangeListener<T, V> listener = emitter::next;
+            final MapChangeListener<T, V> listener = sink::next;
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
@@ -20,63 +20,61 @@ import javafx.collections.ObservableSet;
 import javafx.collections.SetChangeListener;
 import reactor.core.publisher.Flux;
 
-import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
-
 /**
  * Contains all Flux sources for {@link ObservableSet}
  */
 class ObservableSetSource
 {
-    static <T> Flux<ObservableSet<T>> observableSet(ObservableSet<T> source)
+    static <T> Flux<ObservableSet<T>> observableSet(ObservableSet<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("from", source), overflow, sink ->
         {
-            final SetChangeListener<T> listener = c -> emitter.next(source);
+            final SetChangeListener<T> listener = c -> sink.next(source);
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
-            emitter.next(source);
+            sink.next(source);
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T> Flux<T> additions(ObservableSet<T> source)
+    static <T> Flux<T> additions(ObservableSet<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromAdditionsOf", source), overflow, sink ->
         {
             final SetChangeListener<T> listener = c ->
             {
                 if (c.wasAdded())
                 {
-                    emitter.next(c.getElementAdded());
+                    sink.next(c.getElementAdded());
                 }
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T> Flux<T> removals(ObservableSet<T> source)
+    static <T> Flux<T> removals(ObservableSet<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromRemovalsOf", source), overflow, sink ->
         {
             final SetChangeListener<T> listener = c ->
             {
                 if (c.wasRemoved())
                 {
-                    emitter.next(c.getElementRemoved());
+                    sink.next(c.getElementRemoved());
                 }
             };
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
-    static <T> Flux<SetChangeListener.Change<? extends T>> changes(ObservableSet<T> source)
+    static <T> Flux<SetChangeListener.Change<? extends T>> changes(ObservableSet<T> source, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangesOf", source), overflow, sink ->
         {
-            final SetChangeListener<T> listener = emitter::next;
+            final SetChangeListener<T> listener = sink::next;
             source.addListener(listener);
-            emitter.onDispose(onFx(() -> source.removeListener(listener)));
+            return () -> source.removeListener(listener);
         });
     }
 
@@ -16,48 +16,123 @@
 
 package freetimelabs.io.reactorfx.flux;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import reactor.core.publisher.Flux;
 
 import java.util.Objects;
 
-import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
-
 /**
  * Contains all flux sources for {@link ObservableValue}
  */
 class ObservableSource
 {
-    static <T> Flux<T> from(ObservableValue<T> observableValue)
+    static <T> Flux<T> from(ObservableValue<T> observableValue, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("from", observableValue), overflow, sink ->
         {
             T initialValue = observableValue.getValue();
             if (Objects.nonNull(initialValue))
             {
-                emitter.next(initialValue);
+                sink.next(initialValue);
             }
             final ChangeListener<T> handler = (obs, oldVal, newVal) ->
             {
                 if (Objects.nonNull(newVal))
                 {
-                    emitter.next(newVal);
+                    sink.next(newVal);
                 }
             };
             observableValue.addListener(handler);
-            emitter.onDispose(onFx(() -> observableValue.removeListener(handler)));
+            return () -> observableValue.removeListener(handler);
         });
     }
 
-    static <T> Flux<Change<T>> fromChangesOf(ObservableValue<T> observableValue)
+    static <T> Flux<Change<T>> fromChangesOf(ObservableValue<T> observableValue, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name("fromChangesOf", observableValue), overflow, sink ->
         {
             final ChangeListener<T> listener = (obs, oldVal, newVal) ->
-                    emitter.next(new Change<>(oldVal, newVal));
+                    sink.next(new Change<>(oldVal, newVal));
             observableValue.addListener(listener);
-            emitter.onDispose(onFx(() -> observableValue.removeListener(listener)));
+            return () -> observableValue.removeListener(listener);
         });
     }
+
+    static <T> Flux<T> fromInvalidationsOf(ObservableValue<T> observableValue)
+    {
+        return new FxSource<>(FxSource.name("fromInvalidationsOf", observableValue), FxOverflow.latest(), sink ->
+        {
+            LazyValue<T> listener = new LazyValue<>(observableValue, sink);
+            observableValue.addListener(listener);
+            sink.onRequest(listener::request);
+            if (sink.hasRequested())
+            {
+                listener.pull();
+            }
+            return () -> observableValue.removeListener(listener);
+        });
+    }
+
+    /**
+     * Only marks the value as dirty when it is invalidated and reads it once the subscriber has requested it. A lazy
+     * {@link javafx.beans.binding.Binding} is therefore only recomputed when its value will be emitted, and does not
+     * notify again until it has been, however often its dependencies change in the meantime.
+     */
+    private static final class LazyValue<T> implements InvalidationListener
+    {
+        private final ObservableValue<T> observableValue;
+        private final FxSink<T> sink;
+        // Read and written on the JavaFX Application Thread, apart from the initial value read while subscribing.
+        private volatile boolean dirty = true;
+
+        LazyValue(ObservableValue<T> observableValue, FxSink<T> sink)
+        {
+            this.observableValue = observableValue;
+            this.sink = sink;
+        }
+
+        @Override
+        public void invalidated(Observable observable)
+        {
+            dirty = true;
+            if (sink.hasRequested())
+            {
+                pull();
+            }
+        }
+
+        /**
+         * Emits the value if it is dirty. A request can arrive on any thread, while the value may only be read on the
+         * JavaFX Application Thread, so a request from another thread only posts a pull if there is something to emit.
+         */
+        void request()
+        {
+            if (Platform.isFxApplicationThread())
+            {
+                pull();
+            }
+            else if (dirty)
+            {
+                Platform.runLater(this::pull);
+            }
+        }
+
+        void pull()
+        {
+            if (!dirty || sink.isCancelled())
+            {
+                return;
+            }
+            dirty = false;
+            T value = observableValue.getValue();
+            if (Objects.nonNull(value))
+            {
+                sink.next(value);
+            }
+        }
+    }
 }
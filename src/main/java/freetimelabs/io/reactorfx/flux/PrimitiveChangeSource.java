@@ -0,0 +1,465 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Contains the flux sources for the changes of primitive {@link javafx.beans.value.ObservableNumberValue}s. Their
+ * listeners are {@link InvalidationListener}s that read the new value through the primitive getter and remember the old
+ * one in a primitive field, so unlike a {@link javafx.beans.value.ChangeListener} no value is ever boxed.
+ */
+class PrimitiveChangeSource
+{
+    static Flux<DoubleChange> changesOf(ObservableDoubleValue source, FxOverflow overflow)
+    {
+        return changesOf("fromDoubleChangesOf", source, overflow, () -> new DoubleValues(source));
+    }
+
+    static Flux<DoubleChange> reusedChangesOf(ObservableDoubleValue source)
+    {
+        return reusedChangesOf("fromReusedDoubleChangesOf", source, () -> new DoubleValues(source));
+    }
+
+    static Flux<DoubleChanges> changeBatchesOf(ObservableDoubleValue source, FxOverflow overflow)
+    {
+        return changeBatchesOf("fromDoubleChangeBatchesOf", source, overflow, () -> new DoubleValues(source));
+    }
+
+    static Flux<FloatChange> changesOf(ObservableFloatValue source, FxOverflow overflow)
+    {
+        return changesOf("fromFloatChangesOf", source, overflow, () -> new FloatValues(source));
+    }
+
+    static Flux<FloatChange> reusedChangesOf(ObservableFloatValue source)
+    {
+        return reusedChangesOf("fromReusedFloatChangesOf", source, () -> new FloatValues(source));
+    }
+
+    static Flux<FloatChanges> changeBatchesOf(ObservableFloatValue source, FxOverflow overflow)
+    {
+        return changeBatchesOf("fromFloatChangeBatchesOf", source, overflow, () -> new FloatValues(source));
+    }
+
+    static Flux<IntChange> changesOf(ObservableIntegerValue source, FxOverflow overflow)
+    {
+        return changesOf("fromIntChangesOf", source, overflow, () -> new IntValues(source));
+    }
+
+    static Flux<IntChange> reusedChangesOf(ObservableIntegerValue source)
+    {
+        return reusedChangesOf("fromReusedIntChangesOf", source, () -> new IntValues(source));
+    }
+
+    static Flux<IntChanges> changeBatchesOf(ObservableIntegerValue source, FxOverflow overflow)
+    {
+        return changeBatchesOf("fromIntChangeBatchesOf", source, overflow, () -> new IntValues(source));
+    }
+
+    static Flux<LongChange> changesOf(ObservableLongValue source, FxOverflow overflow)
+    {
+        return changesOf("fromLongChangesOf", source, overflow, () -> new LongValues(source));
+    }
+
+    static Flux<LongChange> reusedChangesOf(ObservableLongValue source)
+    {
+        return reusedChangesOf("fromReusedLongChangesOf", source, () -> new LongValues(source));
+    }
+
+    static Flux<LongChanges> changeBatchesOf(ObservableLongValue source, FxOverflow overflow)
+    {
+        return changeBatchesOf("fromLongChangeBatchesOf", source, overflow, () -> new LongValues(source));
+    }
+
+    private static <C> Flux<C> changesOf(String factory, Observable source, FxOverflow overflow,
+                                         Supplier<? extends Values<C, ?>> supplier)
+    {
+        return new FxSource<>(FxSource.name(factory, source), overflow, sink ->
+        {
+            final Values<C, ?> values = supplier.get();
+            final InvalidationListener listener = observable ->
+            {
+                if (values.advance())
+                {
+                    sink.next(values.change());
+                }
+            };
+            source.addListener(listener);
+            return () -> source.removeListener(listener);
+        });
+    }
+
+    private static <C> Flux<C> reusedChangesOf(String factory, Observable source, Supplier<? extends Values<C, ?>> supplier)
+    {
+        return new FxSource<>(FxSource.name(factory, source), FxOverflow.drop(), sink ->
+        {
+            final Values<C, ?> values = supplier.get();
+            final C change = values.change();
+            final InvalidationListener listener = observable ->
+            {
+                if (values.advance())
+                {
+                    sink.next(values.change(change));
+                }
+            };
+            source.addListener(listener);
+            return () -> source.removeListener(listener);
+        });
+    }
+
+    private static <B> Flux<B> changeBatchesOf(String factory, Observable source, FxOverflow overflow,
+                                               Supplier<? extends Values<?, B>> supplier)
+    {
+        return new FxSource<>(FxSource.name(factory, source), overflow, sink ->
+        {
+            final FrameBatcher<B> batcher = new FrameBatcher<>(sink, supplier.get());
+            source.addListener(batcher);
+            return () ->
+            {
+                source.removeListener(batcher);
+                batcher.stop();
+            };
+        });
+    }
+
+    /**
+     * Holds the current and the previous value of a primitive observable, and the changes of the current frame when
+     * they are batched. Implementations read the initial value when they are created, as reading the value also
+     * validates a binding, which only notifies again once it has been read.
+     *
+     * @param <C> The type of a single change.
+     * @param <B> The type of a batch of changes.
+     */
+    private abstract static class Values<C, B>
+    {
+        /**
+         * The number of batched changes.
+         */
+        int size;
+
+        /**
+         * Reads the current value and keeps the previous one as the old value if it differs.
+         *
+         * @return Whether the value differs from the previous one.
+         */
+        abstract boolean advance();
+
+        /**
+         * @return A new change from the old to the current value.
+         */
+        abstract C change();
+
+        /**
+         * @return The argument change, overwritten with the old and the current value.
+         */
+        abstract C change(C reused);
+
+        /**
+         * Adds the change from the old to the current value to the batch.
+         */
+        abstract void append();
+
+        /**
+         * @return A batch of the changes appended since the batch was last taken.
+         */
+        abstract B batch();
+    }
+
+    private static final class DoubleValues extends Values<DoubleChange, DoubleChanges>
+    {
+        private final ObservableDoubleValue source;
+        private double oldVal;
+        private double newVal;
+        private double[] batch = new double[16];
+
+        DoubleValues(ObservableDoubleValue source)
+        {
+            this.source = source;
+            this.newVal = source.get();
+        }
+
+        @Override
+        boolean advance()
+        {
+            double value = source.get();
+            if (Double.compare(newVal, value) == 0)
+            {
+                return false;
+            }
+            oldVal = newVal;
+            newVal = value;
+            return true;
+        }
+
+        @Override
+        DoubleChange change()
+        {
+            return new DoubleChange(oldVal, newVal);
+        }
+
+        @Override
+        DoubleChange change(DoubleChange reused)
+        {
+            return reused.set(oldVal, newVal);
+        }
+
+        @Override
+        void append()
+        {
+            if (size == 0)
+            {
+                batch[0] = oldVal;
+            }
+            else if (size + 1 == batch.length)
+            {
+                batch = Arrays.copyOf(batch, batch.length * 2);
+            }
+            batch[++size] = newVal;
+        }
+
+        @Override
+        DoubleChanges batch()
+        {
+            return new DoubleChanges(Arrays.copyOf(batch, size + 1), size);
+        }
+    }
+
+    private static final class FloatValues extends Values<FloatChange, FloatChanges>
+    {
+        private final ObservableFloatValue source;
+        private float oldVal;
+        private float newVal;
+        private float[] batch = new float[16];
+
+        FloatValues(ObservableFloatValue source)
+        {
+            this.source = source;
+            this.newVal = source.get();
+        }
+
+        @Override
+        boolean advance()
+        {
+            float value = source.get();
+            if (Float.compare(newVal, value) == 0)
+            {
+                return false;
+            }
+            oldVal = newVal;
+            newVal = value;
+            return true;
+        }
+
+        @Override
+        FloatChange change()
+        {
+            return new FloatChange(oldVal, newVal);
+        }
+
+        @Override
+        FloatChange change(FloatChange reused)
+        {
+            return reused.set(oldVal, newVal);
+        }
+
+        @Override
+        void append()
+        {
+            if (size == 0)
+            {
+                batch[0] = oldVal;
+            }
+            else if (size + 1 == batch.length)
+            {
+                batch = Arrays.copyOf(batch, batch.length * 2);
+            }
+            batch[++size] = newVal;
+        }
+
+        @Override
+        FloatChanges batch()
+        {
+            return new FloatChanges(Arrays.copyOf(batch, size + 1), size);
+        }
+    }
+
+    private static final class IntValues extends Values<IntChange, IntChanges>
+    {
+        private final ObservableIntegerValue source;
+        private int oldVal;
+        private int newVal;
+        private int[] batch = new int[16];
+
+        IntValues(ObservableIntegerValue source)
+        {
+            this.source = source;
+            this.newVal = source.get();
+        }
+
+        @Override
+        boolean advance()
+        {
+            int value = source.get();
+            if (newVal == value)
+            {
+                return false;
+            }
+            oldVal = newVal;
+            newVal = value;
+            return true;
+        }
+
+        @Override
+        IntChange change()
+        {
+            return new IntChange(oldVal, newVal);
+        }
+
+        @Override
+        IntChange change(IntChange reused)
+        {
+            return reused.set(oldVal, newVal);
+        }
+
+        @Override
+        void append()
+        {
+            if (size == 0)
+            {
+                batch[0] = oldVal;
+            }
+            else if (size + 1 == batch.length)
+            {
+                batch = Arrays.copyOf(batch, batch.length * 2);
+            }
+            batch[++size] = newVal;
+        }
+
+        @Override
+        IntChanges batch()
+        {
+            return new IntChanges(Arrays.copyOf(batch, size + 1), size);
+        }
+    }
+
+    private static final class LongValues extends Values<LongChange, LongChanges>
+    {
+        private final ObservableLongValue source;
+        private long oldVal;
+        private long newVal;
+        private long[] batch = new long[16];
+
+        LongValues(ObservableLongValue source)
+        {
+            this.source = source;
+            this.newVal = source.get();
+        }
+
+        @Override
+        boolean advance()
+        {
+            long value = source.get();
+            if (newVal == value)
+            {
+                return false;
+            }
+            oldVal = newVal;
+            newVal = value;
+            return true;
+        }
+
+        @Override
+        LongChange change()
+        {
+            return new LongChange(oldVal, newVal);
+        }
+
+        @Override
+        LongChange change(LongChange reused)
+        {
+            return reused.set(oldVal, newVal);
+        }
+
+        @Override
+        void append()
+        {
+            if (size == 0)
+            {
+                batch[0] = oldVal;
+            }
+            else if (size + 1 == batch.length)
+            {
+                batch = Arrays.copyOf(batch, batch.length * 2);
+            }
+            batch[++size] = newVal;
+        }
+
+        @Override
+        LongChanges batch()
+        {
+            return new LongChanges(Arrays.copyOf(batch, size + 1), size);
+        }
+    }
+
+    /**
+     * Collects the changes of a frame and emits them to a {@link FxSink} as one batch per pulse.
+     *
+     * @param <B> The type of the batches.
+     */
+    private static final class FrameBatcher<B> extends FxFrameTimer implements InvalidationListener
+    {
+        private final FxSink<B> sink;
+        private final Values<?, B> values;
+
+        FrameBatcher(FxSink<B> sink, Values<?, B> values)
+        {
+            this.sink = sink;
+            this.values = values;
+        }
+
+        @Override
+        public void invalidated(Observable observable)
+        {
+            if (values.advance())
+            {
+                values.append();
+                schedule();
+            }
+        }
+
+        @Override
+        boolean flush()
+        {
+            if (values.size == 0)
+            {
+                return false;
+            }
+            B batch = values.batch();
+            values.size = 0;
+            sink.next(batch);
+            return true;
+        }
+    }
+}
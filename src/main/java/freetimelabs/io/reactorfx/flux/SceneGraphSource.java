@@ -20,55 +20,187 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.event.EventType;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
+import javafx.scene.input.MouseEvent;
 import javafx.stage.Window;
 import reactor.core.publisher.Flux;
 
-import static freetimelabs.io.reactorfx.flux.DisposeUtilities.onFx;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Contains all flux sources for elements of the scenegraph
  */
 class SceneGraphSource
 {
-    static <T extends Event> Flux<T> menuItemEvent(MenuItem source, EventType<T> eventType)
+    static <T extends Event> Flux<T> menuItemEvent(MenuItem source, EventType<T> eventType, FxOverflow overflow)
     {
-        return Flux.create(emitter ->
+        return shared("from", source, eventType, overflow, false, source::addEventHandler, source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> nodeEvent(Node source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return shared("from", source, eventType, overflow, false, source::addEventHandler, source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> sceneEvent(Scene source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return shared("from", source, eventType, overflow, false, source::addEventHandler, source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> windowEvent(Window source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return shared("from", source, eventType, overflow, false, source::addEventHandler, source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> menuItemFilter(MenuItem source, EventType<T> eventType, Predicate<? super T> consume,
+                                                    FxOverflow overflow)
+    {
+        // A MenuItem does not expose its filters. Its dispatch chain consists of nothing but the item itself, so a
+        // handler is the earliest point at which its events can be observed and consumed.
+        return consumingFilter(source, eventType, consume, overflow, source::addEventHandler, source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> nodeFilter(Node source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return shared("fromFilter", source, eventType, overflow, true, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> Flux<T> nodeFilter(Node source, EventType<T> eventType, Predicate<? super T> consume,
+                                                FxOverflow overflow)
+    {
+        return consumingFilter(source, eventType, consume, overflow, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> Flux<T> sceneFilter(Scene source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return shared("fromFilter", source, eventType, overflow, true, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> Flux<T> sceneFilter(Scene source, EventType<T> eventType, Predicate<? super T> consume,
+                                                 FxOverflow overflow)
+    {
+        return consumingFilter(source, eventType, consume, overflow, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> Flux<T> windowFilter(Window source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return shared("fromFilter", source, eventType, overflow, true, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> Flux<T> windowFilter(Window source, EventType<T> eventType, Predicate<? super T> consume,
+                                                  FxOverflow overflow)
+    {
+        return consumingFilter(source, eventType, consume, overflow, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> Flux<T> conflatedNodeEvent(Node source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return perFrame("fromConflated", source, eventType, overflow, FxConflation::new, source::addEventHandler,
+                        source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> conflatedSceneEvent(Scene source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return perFrame("fromConflated", source, eventType, overflow, FxConflation::new, source::addEventHandler,
+                        source::removeEventHandler);
+    }
+
+    static <T extends Event> Flux<T> conflatedWindowEvent(Window source, EventType<T> eventType, FxOverflow overflow)
+    {
+        return perFrame("fromConflated", source, eventType, overflow, FxConflation::new, source::addEventHandler,
+                        source::removeEventHandler);
+    }
+
+    static Flux<MouseSamples> nodeMouseSamples(Node source, EventType<MouseEvent> eventType, int batchSize, int batches,
+                                               FxOverflow overflow)
+    {
+        checkBatches(batchSize, batches);
+        return perFrame("fromMouseSamples", source, eventType, overflow, sink -> new FxMouseSampler(sink, batchSize, batches),
+                        source::addEventHandler, source::removeEventHandler);
+    }
+
+    static Flux<MouseSamples> sceneMouseSamples(Scene source, EventType<MouseEvent> eventType, int batchSize, int batches,
+                                                FxOverflow overflow)
+    {
+        checkBatches(batchSize, batches);
+        return perFrame("fromMouseSamples", source, eventType, overflow, sink -> new FxMouseSampler(sink, batchSize, batches),
+                        source::addEventHandler, source::removeEventHandler);
+    }
+
+    static <T extends Event> FxEventDelegate<T> sceneDelegate(Scene source, EventType<T> eventType)
+    {
+        return new FxEventDelegate<>(source, eventType, source::addEventFilter, source::removeEventFilter);
+    }
+
+    static <T extends Event> FxEventDelegate<T> parentDelegate(Parent source, EventType<T> eventType)
+    {
+        return new FxEventDelegate<>(source, eventType, source::addEventFilter, source::removeEventFilter);
+    }
+
+    private static <T extends Event> Flux<T> shared(String factory, Object source, EventType<T> eventType,
+                                                    FxOverflow overflow, boolean filter,
+                                                    BiConsumer<EventType<T>, EventHandler<T>> add,
+                                                    BiConsumer<EventType<T>, EventHandler<T>> remove)
+    {
+        return new FxSource<>(FxSource.name(factory, source, eventType), overflow, sink ->
+                FxEventMulticast.subscribe(source, eventType, sink, filter, add, remove));
+    }
+
+    private static <T extends Event> Flux<T> consumingFilter(Object source, EventType<T> eventType,
+                                                             Predicate<? super T> consume, FxOverflow overflow,
+                                                             BiConsumer<EventType<T>, EventHandler<T>> add,
+                                                             BiConsumer<EventType<T>, EventHandler<T>> remove)
+    {
+        // Whether an event is consumed differs per subscriber, so each one installs a filter of its own.
+        return new FxSource<>(FxSource.name("fromFilter", source, eventType), overflow, sink ->
         {
-            final EventHandler<T> handler = emitter::next;
-            source.addEventHandler(eventType, handler);
-            emitter.onDispose(onFx(() -> source.removeEventHandler(eventType, handler)));
+            final EventHandler<T> filter = consuming(sink, consume);
+            add.accept(eventType, filter);
+            return () -> remove.accept(eventType, filter);
         });
     }
 
-    static <T extends Event> Flux<T> nodeEvent(Node source, EventType<T> eventType)
+    private static <T extends Event, R, H extends FxFrameTimer & EventHandler<T>> Flux<R> perFrame(
+            String factory, Object source, EventType<T> eventType, FxOverflow overflow, Function<FxSink<R>, H> handlers,
+            BiConsumer<EventType<T>, EventHandler<T>> add, BiConsumer<EventType<T>, EventHandler<T>> remove)
     {
-        return Flux.create(emitter ->
+        return new FxSource<>(FxSource.name(factory, source, eventType), overflow, sink ->
         {
-            final EventHandler<T> handler = emitter::next;
-            source.addEventHandler(eventType, handler);
-            emitter.onDispose(onFx(() -> source.removeEventHandler(eventType, handler)));
+            final H handler = handlers.apply(sink);
+            add.accept(eventType, handler);
+            return () ->
+            {
+                remove.accept(eventType, handler);
+                handler.stop();
+            };
         });
     }
 
-    static <T extends Event> Flux<T> sceneEvent(Scene source, EventType<T> eventType)
+    private static void checkBatches(int batchSize, int batches)
     {
-        return Flux.create(emitter ->
+        if (batchSize <= 0)
         {
-            final EventHandler<T> handler = emitter::next;
-            source.addEventHandler(eventType, handler);
-            emitter.onDispose(onFx(() -> source.removeEventHandler(eventType, handler)));
-        });
+            throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        }
+        if (batches < 2)
+        {
+            throw new IllegalArgumentException("batches must be at least 2, was " + batches);
+        }
     }
 
-    static <T extends Event> Flux<T> windowEvent(Window source, EventType<T> eventType)
+    private static <T extends Event> EventHandler<T> consuming(FxSink<T> sink, Predicate<? super T> consume)
     {
-        return Flux.create(emitter ->
+        return event ->
         {
-            final EventHandler<T> handler = emitter::next;
-            source.addEventHandler(eventType, handler);
-            emitter.onDispose(onFx(() -> source.removeEventFilter(eventType, handler)));
-        });
+            sink.next(event);
+            if (consume.test(event))
+            {
+                event.consume();
+            }
+        };
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Contains the flux source that combines the values of several {@link ObservableValue}s into consistent snapshots.
+ */
+class SnapshotSource
+{
+    static <V> Flux<V> snapshotsOf(Function<Object[], ? extends V> combiner, FxOverflow overflow, ObservableValue<?>[] sources)
+    {
+        if (sources.length == 0)
+        {
+            throw new IllegalArgumentException("At least one ObservableValue is required");
+        }
+        final ObservableValue<?>[] values = sources.clone();
+        FxSource.Name name = FxSource.name("fromSnapshotsOf", values[0], (Object[]) Arrays.copyOfRange(values, 1, values.length));
+        return new FxSource<V>(name, overflow, sink ->
+        {
+            final Snapshot<V> snapshot = new Snapshot<>(values, combiner, sink);
+            snapshot.emit();
+            for (ObservableValue<?> value : values)
+            {
+                value.addListener(snapshot);
+            }
+            return () ->
+            {
+                for (ObservableValue<?> value : values)
+                {
+                    value.removeListener(snapshot);
+                }
+                snapshot.stop();
+            };
+        });
+    }
+
+    /**
+     * A single {@link InvalidationListener} installed on every {@link ObservableValue} of a snapshot. An invalidation
+     * only marks the snapshot dirty; the values are read, and the snapshot emitted, once per pulse, after every
+     * listener of the event that changed them has run. A change that updates several of the values therefore produces
+     * a single snapshot in which all of them are updated, and the values are not read at all while nothing changes.
+     * Confined to the JavaFX Application Thread.
+     *
+     * @param <V> The type of the snapshots.
+     */
+    private static final class Snapshot<V> extends FxFrameTimer implements InvalidationListener
+    {
+        private final ObservableValue<?>[] values;
+        private final Function<Object[], ? extends V> combiner;
+        private final FxSink<V> sink;
+        private boolean dirty;
+
+        Snapshot(ObservableValue<?>[] values, Function<Object[], ? extends V> combiner, FxSink<V> sink)
+        {
+            this.values = values;
+            this.combiner = combiner;
+            this.sink = sink;
+        }
+
+        @Override
+        public void invalidated(Observable observable)
+        {
+            dirty = true;
+            schedule();
+        }
+
+        @Override
+        boolean flush()
+        {
+            if (!dirty)
+            {
+                return false;
+            }
+            dirty = false;
+            emit();
+            return true;
+        }
+
+        /**
+         * Reads every value, which also validates bindings so that they notify again, and emits the combined snapshot
+         * unless it is null.
+         */
+        void emit()
+        {
+            Object[] snapshot = new Object[values.length];
+            for (int i = 0; i < values.length; i++)
+            {
+                snapshot[i] = values[i].getValue();
+            }
+            V combined;
+            try
+            {
+                combined = combiner.apply(snapshot);
+            }
+            catch (Throwable t)
+            {
+                Exceptions.throwIfJvmFatal(t);
+                stop();
+                sink.error(t);
+                return;
+            }
+            if (combined != null)
+            {
+                sink.next(combined);
+            }
+        }
+    }
+}
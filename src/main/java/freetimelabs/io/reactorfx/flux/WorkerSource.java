@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.flux;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.concurrent.Worker;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Contains all flux sources for {@link Worker}
+ */
+class WorkerSource
+{
+    static <T> Mono<T> fromWorker(Worker<T> source)
+    {
+        return Mono.create(sink ->
+        {
+            final InvalidationListener listener = state -> complete(source, sink);
+            source.stateProperty()
+                  .addListener(listener);
+            sink.onDispose(DisposeUtilities.onFx(() -> source.stateProperty()
+                                                             .removeListener(listener)));
+            sink.onCancel(DisposeUtilities.onFx(source::cancel));
+            complete(source, sink);
+        });
+    }
+
+    static Flux<Double> progressOf(Worker<?> source)
+    {
+        return new FxSource<>(FxSource.name("fromProgressOf", source), FxOverflow.latest(), sink ->
+        {
+            final FxFrameLatest<Double> latest = new FxFrameLatest<>(sink);
+            final ChangeListener<Number> listener = (obs, oldVal, newVal) -> latest.offer(newVal.doubleValue());
+            sink.next(source.getProgress());
+            source.progressProperty()
+                  .addListener(listener);
+            return () ->
+            {
+                source.progressProperty()
+                      .removeListener(listener);
+                latest.stop();
+            };
+        });
+    }
+
+    static Flux<String> messagesOf(Worker<?> source)
+    {
+        return latestOf("fromMessagesOf", source, source.messageProperty());
+    }
+
+    static Flux<String> titlesOf(Worker<?> source)
+    {
+        return latestOf("fromTitlesOf", source, source.titleProperty());
+    }
+
+    static Flux<Worker.State> stateOf(Worker<?> source)
+    {
+        return new FxSource<>(FxSource.name("fromStateOf", source), FxOverflow.unbounded(), sink ->
+        {
+            final ChangeListener<Worker.State> listener = (obs, oldVal, newVal) -> sink.next(newVal);
+            sink.next(source.getState());
+            source.stateProperty()
+                  .addListener(listener);
+            return () -> source.stateProperty()
+                               .removeListener(listener);
+        });
+    }
+
+    private static <T> Flux<T> latestOf(String factory, Worker<?> source, ObservableValue<T> property)
+    {
+        return new FxSource<>(FxSource.name(factory, source), FxOverflow.latest(), sink ->
+        {
+            final FxFrameLatest<T> latest = new FxFrameLatest<>(sink);
+            final ChangeListener<T> listener = (obs, oldVal, newVal) -> latest.offer(newVal);
+            T initialValue = property.getValue();
+            if (initialValue != null)
+            {
+                sink.next(initialValue);
+            }
+            property.addListener(listener);
+            return () ->
+            {
+                property.removeListener(listener);
+                latest.stop();
+            };
+        });
+    }
+
+    private static <T> void complete(Worker<T> source, MonoSink<T> sink)
+    {
+        switch (source.getState())
+        {
+            case SUCCEEDED:
+                sink.success(source.getValue());
+                break;
+            case FAILED:
+                Throwable exception = source.getException();
+                sink.error(exception != null ? exception : new IllegalStateException(source + " failed"));
+                break;
+            case CANCELLED:
+                sink.error(new CancellationException(source + " was cancelled"));
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram with power of two buckets. Bucket {@code i} counts the recorded values {@code v} with {@code
+ * 2^(i-1) <= v < 2^i}, bucket zero counts zeros. Recording is cheap enough to be done for every task run on the JavaFX
+ * Application Thread, reading is safe from any thread.
+ */
+public final class FxHistogram
+{
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    FxHistogram()
+    {
+    }
+
+    void record(long value)
+    {
+        long v = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        long currentMax;
+        while (v > (currentMax = max.get()) && !max.compareAndSet(currentMax, v))
+        {
+            // retry
+        }
+    }
+
+    /**
+     * @return The number of values recorded since creation or the last {@link #reset()}.
+     */
+    public long count()
+    {
+        return count.get();
+    }
+
+    /**
+     * @return The largest value recorded, or zero if nothing has been recorded.
+     */
+    public long max()
+    {
+        return max.get();
+    }
+
+    /**
+     * @return The mean of all recorded values, or zero if nothing has been recorded.
+     */
+    public double mean()
+    {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Estimates a percentile of the recorded values. The result is the upper bound of the bucket containing the
+     * percentile, so it is accurate to within a factor of two.
+     *
+     * @param percentile The percentile to estimate, between 0 and 100.
+     * @return An upper bound of the argument percentile, or zero if nothing has been recorded.
+     */
+    public long percentile(double percentile)
+    {
+        if (percentile < 0 || percentile > 100)
+        {
+            throw new IllegalArgumentException("percentile must be between 0 and 100, was " + percentile);
+        }
+        long total = count.get();
+        if (total == 0)
+        {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += counts.get(i);
+            if (seen >= rank && seen > 0)
+            {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return The number of buckets of this histogram.
+     */
+    public int bucketCount()
+    {
+        return BUCKETS;
+    }
+
+    /**
+     * @param bucket The index of a bucket.
+     * @return The number of recorded values that fall into the argument bucket.
+     */
+    public long bucket(int bucket)
+    {
+        return counts.get(bucket);
+    }
+
+    /**
+     * @param bucket The index of a bucket.
+     * @return The largest value that falls into the argument bucket.
+     */
+    public static long upperBound(int bucket)
+    {
+        return bucket == 0 ? 0 : bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently with a reset may be partially lost.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    private static int bucketOf(long value)
+    {
+        return Math.min(BUCKETS - Long.numberOfLeadingZeros(value), BUCKETS - 1);
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * The drain loop behind {@link FxPulseScheduler}. Tasks are collected in one lock-free queue per {@link Priority} and
+ * all of them are drained from a single {@link Platform#runLater(Runnable)} callback, always taking work from the
+ * highest non-empty lane first. Each drain is bounded by a time budget; work that does not fit is rolled over to a
+ * subsequent callback so that the JavaFX Application Thread gets a chance to render in between.
+ * <p>
+ * Delayed and periodic tasks never leave the JavaFX Application Thread. They are kept in a {@link FxTimerWheel} that
+ * is advanced by an {@link AnimationTimer} on every pulse while at least one timer is pending, so their resolution is
+ * one pulse. Disposing a delayed task removes it from the wheel.
+ */
+final class FxPulseLoop
+{
+    private static final Priority[] LANES = Priority.values();
+
+    private final Queue<Runnable>[] lanes;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final long budgetNanos;
+    // Deadline of the drain in progress, only ever touched from the JavaFX Application Thread.
+    private long drainDeadline;
+    private volatile boolean disposed;
+    private final FxSchedulerMetrics metrics = new FxSchedulerMetrics();
+    // Number of tasks run by the drain in progress, only ever touched from the JavaFX Application Thread.
+    private int drainTasks;
+
+    // The task currently running, published for watchdogs as a seqlock: the sequence is odd while it is being updated.
+    private volatile long runningSequence;
+    private volatile FxTask running;
+    private volatile Priority runningPriority;
+    private volatile long runningSince;
+    private volatile Thread fxThread;
+
+    private final Queue<TimedTask> timersToAdd = new ConcurrentLinkedQueue<>();
+    private final Queue<TimedTask> timersToRemove = new ConcurrentLinkedQueue<>();
+    // Only ever touched from the JavaFX Application Thread.
+    private final FxTimerWheel wheel = new FxTimerWheel(System.nanoTime());
+    // Created by the first timer, since an AnimationTimer can only be created once the JavaFX toolkit is running.
+    @Nullable
+    private AnimationTimer pulse;
+    private boolean pulseRunning;
+
+    @SuppressWarnings("unchecked")
+    FxPulseLoop(long budgetNanos)
+    {
+        this.budgetNanos = budgetNanos;
+        this.lanes = (Queue<Runnable>[]) new Queue<?>[LANES.length];
+        for (int i = 0; i < lanes.length; i++)
+        {
+            lanes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Queues a task on the argument lane.
+     */
+    void submit(FxTask task, Priority lane)
+    {
+        if (disposed)
+        {
+            throw Exceptions.failWithRejected();
+        }
+        queued(lane, 1);
+        // Should the loop be disposed concurrently, enqueue() rejects the task and the count was cleared or ignored.
+        enqueue(task, lane);
+    }
+
+    /**
+     * Queues an entry that runs tasks of its own, such as a worker draining its backlog. Such an entry is responsible
+     * for reporting its tasks through {@link #runTask(FxTask, Priority)} and {@link #queued(Priority, long)}.
+     */
+    void enqueue(Runnable entry, Priority lane)
+    {
+        if (disposed)
+        {
+            throw Exceptions.failWithRejected();
+        }
+        lanes[lane.ordinal()].offer(entry);
+        requestDrain();
+    }
+
+    /**
+     * Runs a task on the JavaFX Application Thread and measures it.
+     */
+    void runTask(FxTask task, Priority lane)
+    {
+        if (task.isDisposed())
+        {
+            return;
+        }
+        long start = System.nanoTime();
+        setRunning(task, lane, start);
+        task.run();
+        setRunning(null, null, 0);
+        metrics.recordTask(lane, start - task.readyNanos, System.nanoTime() - start);
+        drainTasks++;
+    }
+
+    private void setRunning(@Nullable FxTask task, @Nullable Priority lane, long since)
+    {
+        runningSequence++;
+        running = task;
+        runningPriority = lane;
+        runningSince = since;
+        runningSequence++;
+    }
+
+    /**
+     * Called from a watchdog thread to check whether the task currently running on the JavaFX Application Thread has
+     * been running for longer than the argument threshold.
+     *
+     * @param lastReported The sequence of the last run that was reported, to avoid reporting the same run twice.
+     * @return The sequence of the reported run, or the argument sequence if nothing has been reported.
+     */
+    long checkStall(long thresholdNanos, long lastReported, Consumer<? super FxStallReport> onStall)
+    {
+        long sequence = runningSequence;
+        FxTask task = running;
+        Priority lane = runningPriority;
+        long since = runningSince;
+        Thread thread = fxThread;
+        if ((sequence & 1) != 0 || sequence != runningSequence || sequence == lastReported || task == null
+                || thread == null)
+        {
+            return lastReported;
+        }
+        long elapsed = System.nanoTime() - since;
+        if (elapsed < thresholdNanos)
+        {
+            return lastReported;
+        }
+        StackTraceElement[] stackTrace = thread.getStackTrace();
+        if (sequence != runningSequence)
+        {
+            // The task finished while the stack was captured, the stack would not belong to it.
+            return lastReported;
+        }
+        onStall.accept(new FxStallReport(lane, Duration.ofNanos(elapsed), FxStallReport.describe(task.delegate()),
+                                         stackTrace));
+        return sequence;
+    }
+
+    FxSchedulerMetrics metrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * Adjusts the queue depth of the argument lane. Ignored once the loop is disposed, which clears the depth, so that
+     * tasks rejected or dropped afterwards are not counted out a second time.
+     */
+    void queued(Priority lane, long delta)
+    {
+        if (!disposed)
+        {
+            metrics.queued(lane, delta);
+        }
+    }
+
+    /**
+     * Schedules a task on the timer wheel. A period of zero schedules a one-shot task, see {@link #periodNanos(long,
+     * TimeUnit)} for periodic ones.
+     */
+    TimedTask scheduleTimer(Runnable task, @Nullable Disposable.Composite parent, Priority lane, long delayNanos,
+                            long periodNanos)
+    {
+        if (disposed)
+        {
+            throw Exceptions.failWithRejected();
+        }
+        TimedTask timedTask = new TimedTask(task, parent, lane, delayNanos, periodNanos);
+        if (parent != null && !parent.add(timedTask))
+        {
+            throw Exceptions.failWithRejected();
+        }
+        timersToAdd.offer(timedTask);
+        requestDrain();
+        return timedTask;
+    }
+
+    /**
+     * Whether the drain in progress has used up its frame budget. Only meaningful on the JavaFX Application Thread.
+     */
+    boolean outOfBudget()
+    {
+        return System.nanoTime() - drainDeadline >= 0;
+    }
+
+    void dispose()
+    {
+        disposed = true;
+        for (Queue<Runnable> lane : lanes)
+        {
+            lane.clear();
+        }
+        timersToAdd.clear();
+        metrics.clear();
+        Platform.runLater(() ->
+        {
+            if (pulse != null)
+            {
+                pulse.stop();
+            }
+        });
+    }
+
+    boolean isDisposed()
+    {
+        return disposed;
+    }
+
+    private void requestDrain()
+    {
+        if (drainScheduled.compareAndSet(false, true))
+        {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    private void drain()
+    {
+        boolean completed = false;
+        try
+        {
+            drainLanes();
+            completed = true;
+        }
+        finally
+        {
+            if (!completed)
+            {
+                // Something escaped the drain with the flag still set, which would keep any further drain from being
+                // scheduled. Release it and schedule the remaining work.
+                drainScheduled.set(false);
+                if (hasWork())
+                {
+                    requestDrain();
+                }
+            }
+        }
+    }
+
+    private void drainLanes()
+    {
+        final long start = System.nanoTime();
+        fxThread = Thread.currentThread();
+        drainDeadline = start + budgetNanos;
+        drainTasks = 0;
+        serviceTimers();
+        for (; ; )
+        {
+            while (runNext())
+            {
+                if (outOfBudget() && hasWork())
+                {
+                    // Out of budget, the flag stays set so producers don't post a second drain.
+                    Platform.runLater(this::drain);
+                    metrics.recordDrain(drainTasks, System.nanoTime() - start);
+                    return;
+                }
+            }
+            drainScheduled.set(false);
+            if ((!hasWork() && timersToAdd.isEmpty()) || !drainScheduled.compareAndSet(false, true))
+            {
+                metrics.recordDrain(drainTasks, System.nanoTime() - start);
+                return;
+            }
+            serviceTimers();
+        }
+    }
+
+    /**
+     * Takes the next entry from the highest non-empty lane and runs it.
+     *
+     * @return False if all lanes were empty.
+     */
+    private boolean runNext()
+    {
+        for (int i = 0; i < lanes.length; i++)
+        {
+            Runnable entry = lanes[i].poll();
+            if (entry instanceof FxTask)
+            {
+                queued(LANES[i], -1);
+                runTask((FxTask) entry, LANES[i]);
+                return true;
+            }
+            if (entry != null)
+            {
+                entry.run();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasWork()
+    {
+        for (Queue<Runnable> lane : lanes)
+        {
+            if (!lane.isEmpty())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies pending timer insertions and removals, moves expired timers onto their lanes, and starts or stops the
+     * pulse depending on whether any timer is left.
+     */
+    private void serviceTimers()
+    {
+        TimedTask task;
+        while ((task = timersToRemove.poll()) != null)
+        {
+            wheel.remove(task.timer);
+        }
+        while ((task = timersToAdd.poll()) != null)
+        {
+            if (!task.isDisposed())
+            {
+                wheel.add(task.timer);
+            }
+        }
+        wheel.advance(System.nanoTime(), timer -> ((TimedTask) timer.task).expire());
+        updatePulse();
+    }
+
+    private void updatePulse()
+    {
+        if (wheel.isEmpty() == pulseRunning)
+        {
+            pulseRunning = !pulseRunning;
+            if (pulseRunning)
+            {
+                pulse().start();
+            }
+            else
+            {
+                pulse().stop();
+            }
+        }
+    }
+
+    private AnimationTimer pulse()
+    {
+        if (pulse == null)
+        {
+            pulse = new AnimationTimer()
+            {
+                @Override
+                public void handle(long now)
+                {
+                    serviceTimers();
+                    if (hasWork() && drainScheduled.compareAndSet(false, true))
+                    {
+                        drain();
+                    }
+                }
+            };
+        }
+        return pulse;
+    }
+
+    static long periodNanos(long period, TimeUnit unit)
+    {
+        // Periods shorter than a tick make the task run on every pulse, which is the fastest the wheel can go.
+        return Math.max(unit.toNanos(period), FxTimerWheel.TICK_NANOS);
+    }
+
+    /**
+     * A delayed or periodic task. Once it expires it is queued on its lane and drained like any other task.
+     */
+    final class TimedTask extends FxTask
+    {
+        private final FxTimerWheel.Timer timer;
+        private final Priority lane;
+        private final long periodNanos;
+
+        TimedTask(Runnable task, @Nullable Disposable.Composite parent, Priority lane, long delayNanos, long periodNanos)
+        {
+            super(task, parent);
+            this.timer = new FxTimerWheel.Timer(this, System.nanoTime() + delayNanos);
+            this.lane = lane;
+            this.periodNanos = periodNanos;
+        }
+
+        private void expire()
+        {
+            readyNanos = timer.deadlineNanos;
+            queued(lane, 1);
+            lanes[lane.ordinal()].offer(this);
+        }
+
+        @Override
+        void afterRun()
+        {
+            if (periodNanos == 0)
+            {
+                super.afterRun();
+            }
+            else if (!isDisposed())
+            {
+                timer.deadlineNanos += periodNanos;
+                wheel.add(timer);
+                updatePulse();
+            }
+        }
+
+        @Override
+        public void dispose()
+        {
+            super.dispose();
+            if (Platform.isFxApplicationThread())
+            {
+                wheel.remove(timer);
+                updatePulse();
+            }
+            else
+            {
+                // Picked up at the latest on the next pulse, which keeps running as long as this timer is in the wheel.
+                timersToRemove.offer(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A {@link Scheduler} that submits its work to one {@link Priority} lane of a {@link FxPulseLoop}, which drains all
+ * queued work from a single callback until it runs out of its frame budget.
+ */
+final class FxPulseScheduler implements Scheduler
+{
+    private static final AtomicIntegerFieldUpdater<PulseWorker.WorkerTask> QUEUED = AtomicIntegerFieldUpdater.newUpdater(PulseWorker.WorkerTask.class, "queued");
+    private static final AtomicLongFieldUpdater<PulseWorker> PENDING = AtomicLongFieldUpdater.newUpdater(PulseWorker.class, "pending");
+    private static final long DISPOSED = Long.MIN_VALUE;
+
+    private final FxPulseLoop loop;
+    private final Priority lane;
+    private final boolean shared;
+
+    FxPulseScheduler(FxPulseLoop loop, Priority lane, boolean shared)
+    {
+        this.loop = loop;
+        this.lane = lane;
+        this.shared = shared;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task)
+    {
+        FxTask fxTask = new FxTask(task);
+        loop.submit(fxTask, lane);
+        return fxTask;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit)
+    {
+        if (delay <= 0)
+        {
+            return schedule(task);
+        }
+        return loop.scheduleTimer(task, null, lane, unit.toNanos(delay), 0);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit)
+    {
+        return loop.scheduleTimer(task, null, lane, unit.toNanos(initialDelay), FxPulseLoop.periodNanos(period, unit));
+    }
+
+    FxSchedulerMetrics metrics()
+    {
+        return loop.metrics();
+    }
+
+    @Override
+    public Worker createWorker()
+    {
+        return new PulseWorker();
+    }
+
+    @Override
+    public void dispose()
+    {
+        if (!shared)
+        {
+            loop.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return loop.isDisposed();
+    }
+
+    /**
+     * A worker with its own backlog. The worker is queued on its lane as a single entry whenever its backlog becomes
+     * non-empty and drains it from there. A disposed task stays in the backlog as a tombstone that the drain skips, so
+     * disposing it is constant time. The worker keeps its own count of the tasks it has queued, so disposing it takes
+     * its whole backlog out of the queue depth in one step; the tasks themselves are never run and are thrown away by
+     * the next drain or the garbage collector.
+     */
+    private final class PulseWorker implements Worker, Runnable
+    {
+        private final Queue<WorkerTask> backlog = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean drainQueued = new AtomicBoolean(false);
+        // Only timed tasks are tracked individually, since they have to be unlinked from the wheel.
+        private final Disposable.Composite timers = Disposables.composite();
+        // The number of tasks of this worker counted in the queue depth, or DISPOSED once the worker is disposed.
+        volatile long pending;
+
+        @Override
+        public Disposable schedule(Runnable task)
+        {
+            for (; ; )
+            {
+                long count = pending;
+                if (count == DISPOSED)
+                {
+                    throw Exceptions.failWithRejected();
+                }
+                if (PENDING.compareAndSet(this, count, count + 1))
+                {
+                    break;
+                }
+            }
+            // Counted before it is queued: a concurrent dispose() may already have taken it out again, which leaves
+            // the depth briefly negative but never wrong once both are done.
+            loop.queued(lane, 1);
+            WorkerTask workerTask = new WorkerTask(task);
+            backlog.offer(workerTask);
+            if (pending == DISPOSED)
+            {
+                // Disposed concurrently. The task is already out of the count and the drain never runs it.
+                throw Exceptions.failWithRejected();
+            }
+            if (drainQueued.compareAndSet(false, true))
+            {
+                loop.enqueue(this, lane);
+            }
+            return workerTask;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit)
+        {
+            if (delay <= 0)
+            {
+                return schedule(task);
+            }
+            return loop.scheduleTimer(task, timers, lane, unit.toNanos(delay), 0);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit)
+        {
+            return loop.scheduleTimer(task, timers, lane, unit.toNanos(initialDelay),
+                                      FxPulseLoop.periodNanos(period, unit));
+        }
+
+        @Override
+        public void dispose()
+        {
+            long count = PENDING.getAndSet(this, DISPOSED);
+            if (count != DISPOSED)
+            {
+                timers.dispose();
+                if (count != 0)
+                {
+                    loop.queued(lane, -count);
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return pending == DISPOSED;
+        }
+
+        /**
+         * Takes one task out of the count of this worker and the queue depth, unless the worker has already taken its
+         * whole backlog out by being disposed.
+         */
+        void release()
+        {
+            for (; ; )
+            {
+                long count = pending;
+                if (count == DISPOSED)
+                {
+                    return;
+                }
+                if (PENDING.compareAndSet(this, count, count - 1))
+                {
+                    loop.queued(lane, -1);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Drains the backlog on the JavaFX Application Thread until it is empty or the drain of the loop is out of
+         * budget, in which case the worker queues itself again behind the other work of its lane.
+         */
+        @Override
+        public void run()
+        {
+            for (; ; )
+            {
+                WorkerTask task;
+                while (!isDisposed() && (task = backlog.poll()) != null)
+                {
+                    if (!task.dequeue())
+                    {
+                        // A tombstone, already taken out of the count when it was disposed.
+                        continue;
+                    }
+                    loop.runTask(task, lane);
+                    if (loop.outOfBudget() && !backlog.isEmpty())
+                    {
+                        loop.enqueue(this, lane);
+                        return;
+                    }
+                }
+                if (isDisposed())
+                {
+                    // Already taken out of the count by dispose(); the tasks are only dropped here.
+                    backlog.clear();
+                    return;
+                }
+                drainQueued.set(false);
+                if (backlog.isEmpty() || !drainQueued.compareAndSet(false, true))
+                {
+                    return;
+                }
+            }
+        }
+
+        private final class WorkerTask extends FxTask
+        {
+            // 1 while the task is counted as queued. Whoever clears it, the drain or the task being disposed, takes it
+            // out of the count of the worker, so it is counted out exactly once.
+            volatile int queued = 1;
+
+            WorkerTask(Runnable task)
+            {
+                super(task);
+            }
+
+            /**
+             * Takes the task out of the count of its worker, unless that has already happened.
+             *
+             * @return True if this call took it out.
+             */
+            boolean dequeue()
+            {
+                if (QUEUED.compareAndSet(this, 1, 0))
+                {
+                    release();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void dispose()
+            {
+                super.dispose();
+                // Left in the backlog as a tombstone; unlinking it from a ConcurrentLinkedQueue would be linear.
+                dequeue();
+            }
+
+            @Override
+            public boolean isDisposed()
+            {
+                return PulseWorker.this.isDisposed() || super.isDisposed();
+            }
+        }
+    }
+}
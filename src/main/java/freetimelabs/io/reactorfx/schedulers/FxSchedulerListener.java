@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+/**
+ * Receives the raw measurements of the JavaFX pulse schedulers, for example to forward them to a metrics system. Both
+ * callbacks are invoked on the JavaFX Application Thread and should return quickly. Register an implementation with
+ * {@link FxSchedulerMetrics#addListener(FxSchedulerListener)}.
+ */
+public interface FxSchedulerListener
+{
+    /**
+     * Called after a task has run.
+     *
+     * @param priority     The lane the task was submitted to.
+     * @param latencyNanos The time between the submission of the task, or its deadline for delayed tasks, and the
+     *                     start of its execution.
+     * @param runNanos     The time the task took to run.
+     */
+    default void onTask(Priority priority, long latencyNanos, long runNanos)
+    {
+    }
+
+    /**
+     * Called after a drain, the single callback that runs all queued work, has finished.
+     *
+     * @param tasks      The number of tasks run by the drain.
+     * @param drainNanos The time the drain took.
+     * @param queueDepth The number of tasks still queued when the drain finished, which is non-zero when it ran out of
+     *                   budget.
+     */
+    default void onDrain(int tasks, long drainNanos, long queueDepth)
+    {
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import reactor.core.Disposable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live measurements of a JavaFX pulse scheduler: how much work is queued, how long work waits before it runs, how long
+ * it takes to run, and how much of it is run per drain. All values are safe to read from any thread. The measurements
+ * of the shared schedulers are available from {@link FxSchedulers#metrics()}.
+ */
+public final class FxSchedulerMetrics
+{
+    private final AtomicLong[] depth = new AtomicLong[Priority.values().length];
+    private final FxHistogram latency = new FxHistogram();
+    private final FxHistogram runTime = new FxHistogram();
+    private final FxHistogram tasksPerDrain = new FxHistogram();
+    private final FxHistogram drainTime = new FxHistogram();
+    private final List<FxSchedulerListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<FxWatermarks> watermarks = new CopyOnWriteArrayList<>();
+
+    FxSchedulerMetrics()
+    {
+        for (int i = 0; i < depth.length; i++)
+        {
+            depth[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * @return The number of tasks currently waiting to run across all lanes.
+     */
+    public long queueDepth()
+    {
+        long total = 0;
+        for (AtomicLong lane : depth)
+        {
+            total += lane.get();
+        }
+        return total;
+    }
+
+    /**
+     * @param priority The lane to inspect.
+     * @return The number of tasks currently waiting to run on the argument lane.
+     */
+    public long queueDepth(Priority priority)
+    {
+        return depth[priority.ordinal()].get();
+    }
+
+    /**
+     * @return A histogram of the nanoseconds between the submission of a task, or its deadline for delayed tasks, and
+     * the start of its execution.
+     */
+    public FxHistogram latency()
+    {
+        return latency;
+    }
+
+    /**
+     * @return A histogram of the nanoseconds each task took to run.
+     */
+    public FxHistogram runTime()
+    {
+        return runTime;
+    }
+
+    /**
+     * @return A histogram of the number of tasks run by each drain, the single {@link
+     * javafx.application.Platform#runLater(Runnable)} callback that runs queued work. A drain that runs out of its frame
+     * budget posts another one for the rest, so a busy frame can be recorded as several drains.
+     */
+    public FxHistogram tasksPerDrain()
+    {
+        return tasksPerDrain;
+    }
+
+    /**
+     * @return A histogram of the nanoseconds each drain took.
+     */
+    public FxHistogram drainTime()
+    {
+        return drainTime;
+    }
+
+    /**
+     * Registers a listener that receives every measurement as it is taken.
+     *
+     * @param listener The listener to register.
+     * @return A {@link Disposable} that unregisters the listener.
+     */
+    public Disposable addListener(FxSchedulerListener listener)
+    {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    FxWatermarks addWatermarks(long lowWatermark, long highWatermark)
+    {
+        FxWatermarks added = new FxWatermarks(this, lowWatermark, highWatermark);
+        watermarks.add(added);
+        added.update(queueDepth());
+        return added;
+    }
+
+    void removeWatermarks(FxWatermarks removed)
+    {
+        watermarks.remove(removed);
+    }
+
+    void queued(Priority priority, long delta)
+    {
+        depth[priority.ordinal()].addAndGet(delta);
+        if (!watermarks.isEmpty())
+        {
+            long queueDepth = queueDepth();
+            for (FxWatermarks watermark : watermarks)
+            {
+                watermark.update(queueDepth);
+            }
+        }
+    }
+
+    void clear()
+    {
+        for (AtomicLong lane : depth)
+        {
+            lane.set(0);
+        }
+        for (FxWatermarks watermark : watermarks)
+        {
+            watermark.update(0);
+        }
+    }
+
+    void recordTask(Priority priority, long latencyNanos, long runNanos)
+    {
+        latency.record(latencyNanos);
+        runTime.record(runNanos);
+        for (FxSchedulerListener listener : listeners)
+        {
+            try
+            {
+                listener.onTask(priority, latencyNanos, runNanos);
+            }
+            catch (Throwable t)
+            {
+                // A failing listener must not break the drain loop that reports to it.
+                FxTask.handleError(t);
+            }
+        }
+    }
+
+    void recordDrain(int tasks, long drainNanos)
+    {
+        tasksPerDrain.record(tasks);
+        drainTime.record(drainNanos);
+        if (!listeners.isEmpty())
+        {
+            long queueDepth = queueDepth();
+            for (FxSchedulerListener listener : listeners)
+            {
+                try
+                {
+                    listener.onDrain(tasks, drainNanos, queueDepth);
+                }
+                catch (Throwable t)
+                {
+                    FxTask.handleError(t);
+                }
+            }
+        }
+    }
+}
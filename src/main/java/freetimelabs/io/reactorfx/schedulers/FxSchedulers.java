@@ -17,10 +17,13 @@
 package freetimelabs.io.reactorfx.schedulers;
 
 import javafx.application.Platform;
+import reactor.core.Disposable;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * This class aggregates all of the different flavors of JavaFX {@link Scheduler} available as part of this repository.
@@ -28,6 +31,12 @@ import java.util.concurrent.Executor;
 public final class FxSchedulers
 {
     private static final Scheduler FX_THREAD = Schedulers.fromExecutor(Platform::runLater);
+    private static final Duration DEFAULT_FRAME_BUDGET = Duration.ofMillis(8);
+    private static final FxPulseLoop FX_PULSE_LOOP = new FxPulseLoop(DEFAULT_FRAME_BUDGET.toNanos());
+    private static final Scheduler FX_HIGH = new FxPulseScheduler(FX_PULSE_LOOP, Priority.HIGH, true);
+    private static final Scheduler FX_PULSE = new FxPulseScheduler(FX_PULSE_LOOP, Priority.NORMAL, true);
+    private static final Scheduler FX_BULK = new FxPulseScheduler(FX_PULSE_LOOP, Priority.BULK, true);
+    private static final Scheduler FX_TRAMPOLINE = new FxTrampolineScheduler(FX_PULSE);
 
     private FxSchedulers()
     {
@@ -46,4 +55,142 @@ public final class FxSchedulers
         return FX_THREAD;
     }
 
+    /**
+     * A JavaFX scheduler that coalesces work. Tasks are collected in a lock-free queue and all of them are drained by a
+     * single {@link Platform#runLater(Runnable)} callback instead of one callback per task. A drain stops once it has
+     * used up its frame budget of 8 milliseconds and the remaining tasks roll over to the next callback, which lets the
+     * JavaFX Application Thread render in between. Delayed and periodic work, as used by {@code delayElements} or
+     * {@code interval}, is timed on the JavaFX Application Thread itself with a resolution of one pulse instead of
+     * hopping through a timer thread, and disposing it removes it from the timer. This is the shared instance and
+     * disposing it has no effect.
+     *
+     * @return A {@link Scheduler} that provides coalesced access to the JavaFX Application Thread.
+     */
+    public static Scheduler fxPulse()
+    {
+        return FX_PULSE;
+    }
+
+    /**
+     * Creates a new coalescing JavaFX scheduler with its own queue and the argument frame budget. See {@link
+     * #fxPulse()}.
+     *
+     * @param frameBudget The maximum time spent running tasks in a single drain before yielding back to JavaFX.
+     * @return A new {@link Scheduler} that provides coalesced access to the JavaFX Application Thread.
+     */
+    public static Scheduler newFxPulse(Duration frameBudget)
+    {
+        if (frameBudget.isNegative() || frameBudget.isZero())
+        {
+            throw new IllegalArgumentException("frameBudget must be positive, was " + frameBudget);
+        }
+        return new FxPulseScheduler(new FxPulseLoop(frameBudget.toNanos()), Priority.NORMAL, false);
+    }
+
+    /**
+     * A prioritized JavaFX scheduler. The schedulers of all priorities share the drain loop of {@link #fxPulse()},
+     * which always runs the work of a higher {@link Priority} first, so a burst of {@link Priority#BULK} updates can
+     * not delay {@link Priority#HIGH} work such as the handling of a button click. The bulk lane only gets the part of
+     * the frame budget that the other lanes left over. {@code fxThread(Priority.NORMAL)} is {@link #fxPulse()}.
+     *
+     * @param priority The lane to submit work to.
+     * @return A {@link Scheduler} that provides prioritized access to the JavaFX Application Thread.
+     */
+    public static Scheduler fxThread(Priority priority)
+    {
+        switch (priority)
+        {
+            case HIGH:
+                return FX_HIGH;
+            case BULK:
+                return FX_BULK;
+            default:
+                return FX_PULSE;
+        }
+    }
+
+    /**
+     * Live measurements of the schedulers returned by {@link #fxPulse()} and {@link #fxThread(Priority)}: queue depth
+     * per lane, the latency between submitting and running a task, task run times, and the number of tasks and time
+     * spent per drain. Use {@link FxSchedulerMetrics#addListener(FxSchedulerListener)} to forward the measurements to
+     * a metrics system.
+     *
+     * @return The {@link FxSchedulerMetrics} of the shared JavaFX pulse schedulers.
+     */
+    public static FxSchedulerMetrics metrics()
+    {
+        return FX_PULSE_LOOP.metrics();
+    }
+
+    /**
+     * Live measurements of a scheduler created with {@link #newFxPulse(Duration)}, or of one of the shared pulse
+     * schedulers, in which case they are those of {@link #metrics()}.
+     *
+     * @param scheduler A scheduler returned by {@link #newFxPulse(Duration)}, {@link #fxPulse()} or {@link
+     *                  #fxThread(Priority)}.
+     * @return The {@link FxSchedulerMetrics} of the argument scheduler.
+     * @throws IllegalArgumentException If the argument is not a JavaFX pulse scheduler.
+     */
+    public static FxSchedulerMetrics metrics(Scheduler scheduler)
+    {
+        if (!(scheduler instanceof FxPulseScheduler))
+        {
+            throw new IllegalArgumentException("Not a JavaFX pulse scheduler: " + scheduler);
+        }
+        return ((FxPulseScheduler) scheduler).metrics();
+    }
+
+    /**
+     * Starts tracking whether the schedulers returned by {@link #fxPulse()} and {@link #fxThread(Priority)} are
+     * saturated. They become saturated once the number of queued tasks across all lanes reaches the high watermark and
+     * recover once it drops back to the low watermark. The returned {@link FxWatermarks} exposes that state as a {@link
+     * reactor.core.publisher.Flux} and can withhold the demand of producers while saturated.
+     *
+     * @param lowWatermark  The queue depth at or below which the schedulers are no longer saturated.
+     * @param highWatermark The queue depth at or above which the schedulers are saturated.
+     * @return A new {@link FxWatermarks}, which should be disposed when it is no longer needed.
+     */
+    public static FxWatermarks watermarks(long lowWatermark, long highWatermark)
+    {
+        if (lowWatermark < 0 || highWatermark <= lowWatermark)
+        {
+            throw new IllegalArgumentException("Expected 0 <= lowWatermark < highWatermark, was " + lowWatermark + " and "
+                    + highWatermark);
+        }
+        return FX_PULSE_LOOP.metrics()
+                            .addWatermarks(lowWatermark, highWatermark);
+    }
+
+    /**
+     * Starts a watchdog that reports tasks of {@link #fxPulse()} and {@link #fxThread(Priority)} that block the JavaFX
+     * Application Thread for longer than the argument threshold. The watchdog is a daemon thread that samples the
+     * running task a few times per threshold; when a task exceeds it, the stack of the JavaFX Application Thread and a
+     * description of the running subscriber chain are handed to the argument callback on the watchdog thread. Each run
+     * of a task is reported at most once.
+     *
+     * @param threshold The time a task may run before it is reported.
+     * @param onStall   The callback receiving the reports.
+     * @return A {@link Disposable} that stops the watchdog.
+     */
+    public static Disposable watchdog(Duration threshold, Consumer<? super FxStallReport> onStall)
+    {
+        if (threshold.isNegative() || threshold.isZero())
+        {
+            throw new IllegalArgumentException("threshold must be positive, was " + threshold);
+        }
+        return new FxStallWatchdog(FX_PULSE_LOOP, threshold.toNanos(), onStall).start();
+    }
+
+    /**
+     * A JavaFX scheduler that runs work immediately when it is scheduled from the JavaFX Application Thread, saving the
+     * extra frame of latency a {@link Platform#runLater(Runnable)} round trip would add. Work scheduled while another
+     * task of this scheduler is running on the JavaFX Application Thread is trampolined: it runs right after the
+     * current task returns instead of recursing. Work scheduled from any other thread is handed to {@link #fxPulse()}.
+     *
+     * @return A {@link Scheduler} that runs inline when already on the JavaFX Application Thread.
+     */
+    public static Scheduler fxTrampoline()
+    {
+        return FX_TRAMPOLINE;
+    }
 }
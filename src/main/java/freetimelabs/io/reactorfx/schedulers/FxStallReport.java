@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import reactor.core.Scannable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Describes a task that has been blocking the JavaFX Application Thread for longer than the threshold of a watchdog
+ * started with {@link FxSchedulers#watchdog(Duration, java.util.function.Consumer)}.
+ */
+public final class FxStallReport
+{
+    private final Priority priority;
+    private final Duration duration;
+    private final List<String> subscribers;
+    private final StackTraceElement[] stackTrace;
+
+    FxStallReport(Priority priority, Duration duration, List<String> subscribers, StackTraceElement[] stackTrace)
+    {
+        this.priority = priority;
+        this.duration = duration;
+        this.subscribers = subscribers;
+        this.stackTrace = stackTrace;
+    }
+
+    /**
+     * @return The lane the stalled task was submitted to.
+     */
+    public Priority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * @return How long the task had been running when it was reported. It may still be running.
+     */
+    public Duration getDuration()
+    {
+        return duration;
+    }
+
+    /**
+     * The subscriber that was running, followed by its upstream subscribers up to the source. Each of them is
+     * described by its {@link Scannable.Attr#NAME} if it has one, or by its class otherwise.
+     *
+     * @return The descriptions of the running subscriber and its upstream, from the stalled task to the source.
+     */
+    public List<String> getSubscribers()
+    {
+        return subscribers;
+    }
+
+    /**
+     * @return The stack of the JavaFX Application Thread at the time the stall was detected.
+     */
+    public StackTraceElement[] getStackTrace()
+    {
+        return stackTrace.clone();
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder("JavaFX Application Thread stalled for ").append(duration.toMillis())
+                                                                                     .append(" ms running a ")
+                                                                                     .append(priority)
+                                                                                     .append(" task: ")
+                                                                                     .append(String.join(" <- ", subscribers));
+        for (StackTraceElement element : stackTrace)
+        {
+            sb.append(System.lineSeparator())
+              .append("\tat ")
+              .append(element);
+        }
+        return sb.toString();
+    }
+
+    static List<String> describe(Runnable task)
+    {
+        Scannable scannable = Scannable.from(task);
+        if (!scannable.isScanAvailable())
+        {
+            return Collections.singletonList(task.toString());
+        }
+        List<String> descriptions = new ArrayList<>();
+        Stream.concat(Stream.of(scannable), scannable.parents())
+              .map(FxStallReport::describe)
+              .forEach(descriptions::add);
+        return Collections.unmodifiableList(descriptions);
+    }
+
+    private static String describe(Scannable scannable)
+    {
+        String name = scannable.scan(Scannable.Attr.NAME);
+        if (name != null)
+        {
+            return name;
+        }
+        String className = scannable.getClass()
+                                    .getName();
+        return className.substring(className.lastIndexOf('.') + 1)
+                        .replace('$', '.');
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import reactor.core.Disposable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * A daemon thread that periodically checks whether the task running on a {@link FxPulseLoop} has exceeded a threshold
+ * and reports it. Each run of a task is reported at most once.
+ */
+final class FxStallWatchdog implements Disposable, Runnable
+{
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final FxPulseLoop loop;
+    private final long thresholdNanos;
+    private final Consumer<? super FxStallReport> onStall;
+    private final Thread thread;
+    private volatile boolean disposed;
+
+    FxStallWatchdog(FxPulseLoop loop, long thresholdNanos, Consumer<? super FxStallReport> onStall)
+    {
+        this.loop = loop;
+        this.thresholdNanos = thresholdNanos;
+        this.onStall = onStall;
+        this.thread = new Thread(this, "fx-stall-watchdog");
+        this.thread.setDaemon(true);
+    }
+
+    FxStallWatchdog start()
+    {
+        thread.start();
+        return this;
+    }
+
+    @Override
+    public void run()
+    {
+        long interval = Math.max(thresholdNanos / 4, MIN_INTERVAL_NANOS);
+        long lastReported = -1;
+        while (!disposed)
+        {
+            LockSupport.parkNanos(this, interval);
+            try
+            {
+                lastReported = loop.checkStall(thresholdNanos, lastReported, onStall);
+            }
+            catch (Throwable t)
+            {
+                FxTask.handleError(t);
+            }
+        }
+    }
+
+    @Override
+    public void dispose()
+    {
+        disposed = true;
+        LockSupport.unpark(thread);
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return disposed;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.util.annotation.Nullable;
+
+/**
+ * A unit of work queued for the JavaFX Application Thread. Disposing a task before it runs turns it into a no-op. A
+ * task that belongs to a {@link Disposable.Composite}, such as the tasks of a worker, removes itself from it once it is
+ * done.
+ */
+class FxTask implements Runnable, Disposable
+{
+    private final Runnable task;
+    @Nullable
+    private final Disposable.Composite parent;
+    private volatile boolean disposed;
+    // The time the task became ready to run, used to measure its latency.
+    long readyNanos = System.nanoTime();
+
+    FxTask(Runnable task)
+    {
+        this(task, null);
+    }
+
+    FxTask(Runnable task, @Nullable Disposable.Composite parent)
+    {
+        this.task = task;
+        this.parent = parent;
+    }
+
+    @Override
+    public void run()
+    {
+        if (isDisposed())
+        {
+            return;
+        }
+        try
+        {
+            task.run();
+        }
+        catch (Throwable t)
+        {
+            handleError(t);
+        }
+        afterRun();
+    }
+
+    /**
+     * @return The wrapped task, used to describe what is running.
+     */
+    Runnable delegate()
+    {
+        return task;
+    }
+
+    /**
+     * Called on the JavaFX Application Thread once the wrapped task has run.
+     */
+    void afterRun()
+    {
+        removeFromParent();
+    }
+
+    @Override
+    public void dispose()
+    {
+        disposed = true;
+        removeFromParent();
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return disposed;
+    }
+
+    private void removeFromParent()
+    {
+        if (parent != null)
+        {
+            parent.remove(this);
+        }
+    }
+
+    static void handleError(Throwable t)
+    {
+        Exceptions.throwIfJvmFatal(t);
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler()
+              .uncaughtException(thread, t);
+    }
+}
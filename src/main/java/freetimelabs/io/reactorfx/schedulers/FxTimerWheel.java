@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A hashed timer wheel with one millisecond ticks. Timers are kept in intrusive doubly linked buckets so both insertion
+ * and removal are O(1). This class is not thread safe; it is only ever accessed from the JavaFX Application Thread.
+ */
+final class FxTimerWheel
+{
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Timer[] buckets = new Timer[WHEEL_SIZE];
+    private final long origin;
+    private long currentTick;
+    private int size;
+
+    FxTimerWheel(long originNanos)
+    {
+        this.origin = originNanos;
+    }
+
+    void add(Timer timer)
+    {
+        long tick = Math.max(ticks(timer.deadlineNanos), currentTick + 1);
+        int index = (int) (tick & MASK);
+        timer.tick = tick;
+        timer.prev = null;
+        timer.next = buckets[index];
+        if (timer.next != null)
+        {
+            timer.next.prev = timer;
+        }
+        buckets[index] = timer;
+        timer.inWheel = true;
+        size++;
+    }
+
+    void remove(Timer timer)
+    {
+        if (!timer.inWheel)
+        {
+            return;
+        }
+        if (timer.prev == null)
+        {
+            buckets[(int) (timer.tick & MASK)] = timer.next;
+        }
+        else
+        {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next != null)
+        {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.inWheel = false;
+        size--;
+    }
+
+    /**
+     * Advances the wheel up to the argument time, handing every timer whose deadline has passed to the argument
+     * consumer after it has been removed from the wheel.
+     */
+    void advance(long nowNanos, Consumer<? super Timer> expired)
+    {
+        long target = ticks(nowNanos);
+        if (target <= currentTick)
+        {
+            return;
+        }
+        // Once a full revolution has elapsed every bucket has to be visited exactly once anyway.
+        long from = Math.max(currentTick + 1, target - MASK);
+        for (long tick = from; tick <= target && size > 0; tick++)
+        {
+            Timer timer = buckets[(int) (tick & MASK)];
+            while (timer != null)
+            {
+                Timer next = timer.next;
+                if (timer.tick <= target)
+                {
+                    remove(timer);
+                    expired.accept(timer);
+                }
+                timer = next;
+            }
+        }
+        currentTick = target;
+    }
+
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    private long ticks(long nanos)
+    {
+        return (nanos - origin + TICK_NANOS - 1) / TICK_NANOS;
+    }
+
+    /**
+     * An entry of the wheel pointing at the task to run once it expires. The link fields belong to the wheel and must
+     * only be touched by it.
+     */
+    static final class Timer
+    {
+        final FxTask task;
+        long deadlineNanos;
+        private long tick;
+        private Timer prev;
+        private Timer next;
+        private boolean inWheel;
+
+        Timer(FxTask task, long deadlineNanos)
+        {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
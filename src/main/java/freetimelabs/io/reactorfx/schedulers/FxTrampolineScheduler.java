@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import javafx.application.Platform;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link Scheduler} that runs tasks inline when they are scheduled from the JavaFX Application Thread and defers to
+ * another JavaFX scheduler otherwise. Tasks scheduled while an inline task is already running are queued on a
+ * trampoline and run once the outer task returns, so reentrant scheduling cannot overflow the stack. Delayed and
+ * periodic tasks are always handed to the other scheduler.
+ */
+final class FxTrampolineScheduler implements Scheduler
+{
+    private final Scheduler offFxThread;
+
+    // Only ever touched from the JavaFX Application Thread.
+    private final Queue<FxTask> trampoline = new ArrayDeque<>();
+    private boolean draining;
+
+    FxTrampolineScheduler(Scheduler offFxThread)
+    {
+        this.offFxThread = offFxThread;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task)
+    {
+        FxTask fxTask = new FxTask(task);
+        if (Platform.isFxApplicationThread())
+        {
+            runTrampolined(fxTask);
+        }
+        else
+        {
+            offFxThread.schedule(() -> runTrampolined(fxTask));
+        }
+        return fxTask;
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit)
+    {
+        return offFxThread.schedule(task, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit)
+    {
+        return offFxThread.schedulePeriodically(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public Worker createWorker()
+    {
+        return new TrampolineWorker(offFxThread.createWorker());
+    }
+
+    private void runTrampolined(FxTask task)
+    {
+        if (draining)
+        {
+            trampoline.offer(task);
+            return;
+        }
+        draining = true;
+        try
+        {
+            task.run();
+            FxTask next;
+            while ((next = trampoline.poll()) != null)
+            {
+                next.run();
+            }
+        }
+        finally
+        {
+            draining = false;
+        }
+    }
+
+    private final class TrampolineWorker implements Worker
+    {
+        private final Worker deferred;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        TrampolineWorker(Worker deferred)
+        {
+            this.deferred = deferred;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task)
+        {
+            if (isDisposed())
+            {
+                throw Exceptions.failWithRejected();
+            }
+            FxTask fxTask = new FxTask(() ->
+            {
+                if (!isDisposed())
+                {
+                    task.run();
+                }
+            });
+            // Only run inline when nothing of this worker is still waiting on the deferred path, keeping tasks FIFO.
+            if (Platform.isFxApplicationThread() && pending.get() == 0)
+            {
+                runTrampolined(fxTask);
+                return fxTask;
+            }
+            pending.incrementAndGet();
+            deferred.schedule(() ->
+            {
+                pending.decrementAndGet();
+                runTrampolined(fxTask);
+            });
+            return fxTask;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit)
+        {
+            return deferred.schedule(task, delay, unit);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit)
+        {
+            return deferred.schedulePeriodically(task, initialDelay, period, unit);
+        }
+
+        @Override
+        public void dispose()
+        {
+            deferred.dispose();
+        }
+
+        @Override
+        public boolean isDisposed()
+        {
+            return deferred.isDisposed();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks whether the JavaFX pulse schedulers are saturated. The schedulers become saturated once the number of queued
+ * tasks reaches the high watermark, and stay saturated until it drops back to the low watermark. Producers can observe
+ * the state through {@link #saturation()} to shed load, or let {@link #throttle(Flux)} withhold their demand while the
+ * JavaFX Application Thread is behind.
+ * <pre>
+ * {@code
+ * FxWatermarks watermarks = FxSchedulers.watermarks(1_000, 10_000);
+ * feed.onBackpressureLatest()
+ *     .transform(watermarks::throttle)
+ *     .publishOn(FxSchedulers.fxPulse())
+ *     .subscribe(table::update);
+ * }
+ * </pre>
+ * Created with {@link FxSchedulers#watermarks(long, long)}. Dispose it once it is no longer needed to stop tracking.
+ */
+public final class FxWatermarks implements Disposable
+{
+    private final FxSchedulerMetrics metrics;
+    private final long lowWatermark;
+    private final long highWatermark;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean saturated;
+    private volatile boolean disposed;
+
+    FxWatermarks(FxSchedulerMetrics metrics, long lowWatermark, long highWatermark)
+    {
+        this.metrics = metrics;
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+    }
+
+    /**
+     * @return True if the number of queued tasks has reached the high watermark and not yet dropped back to the low
+     * watermark.
+     */
+    public boolean isSaturated()
+    {
+        return saturated;
+    }
+
+    /**
+     * Creates a {@link Flux} that emits the current saturation state followed by every change to it. It emits false and
+     * completes once this {@link FxWatermarks} is disposed.
+     *
+     * @return A {@link Flux} that emits true when the schedulers become saturated and false when they recover.
+     */
+    public Flux<Boolean> saturation()
+    {
+        return Flux.<Boolean>create(emitter ->
+        {
+            // The state is read and emitted atomically so that the last emission always reflects the latest change.
+            final Runnable listener = () ->
+            {
+                synchronized (emitter)
+                {
+                    emitter.next(saturated);
+                    if (disposed)
+                    {
+                        emitter.complete();
+                    }
+                }
+            };
+            listeners.add(listener);
+            emitter.onDispose(() -> listeners.remove(listener));
+            listener.run();
+        })
+                   .distinctUntilChanged();
+    }
+
+    /**
+     * Withholds the demand of the argument {@link Flux} while the schedulers are saturated. Requests made by the
+     * downstream while saturated are accumulated and forwarded upstream once the queue has dropped back to the low
+     * watermark. Place it before {@code publishOn}, whose bounded prefetch is what keeps the demand in check; an
+     * unbounded request made while the schedulers are not saturated is passed through as is.
+     *
+     * @param source The {@link Flux} whose demand to withhold.
+     * @param <T>    The type of the {@link Flux}.
+     * @return A {@link Flux} that only requests from the argument {@link Flux} while the schedulers are not saturated.
+     */
+    public <T> Flux<T> throttle(Flux<T> source)
+    {
+        return source.transform(Operators.<T, T>lift((scannable, actual) -> new ThrottleSubscriber<>(actual)));
+    }
+
+    /**
+     * Stops tracking the schedulers. A saturated {@link FxWatermarks} recovers, so that {@link #throttle(Flux)} forwards
+     * the demand it has withheld and {@link #saturation()} emits false, after which it completes.
+     */
+    @Override
+    public void dispose()
+    {
+        if (disposed)
+        {
+            return;
+        }
+        metrics.removeWatermarks(this);
+        synchronized (this)
+        {
+            disposed = true;
+            saturated = false;
+        }
+        for (Runnable listener : listeners)
+        {
+            listener.run();
+        }
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return disposed;
+    }
+
+    void update(long queueDepth)
+    {
+        if (saturated ? queueDepth <= lowWatermark : queueDepth >= highWatermark)
+        {
+            boolean changed;
+            synchronized (this)
+            {
+                changed = !disposed && (saturated ? queueDepth <= lowWatermark : queueDepth >= highWatermark);
+                if (changed)
+                {
+                    saturated = !saturated;
+                }
+            }
+            if (changed)
+            {
+                for (Runnable listener : listeners)
+                {
+                    listener.run();
+                }
+            }
+        }
+    }
+
+    private final class ThrottleSubscriber<T> implements CoreSubscriber<T>, Subscription, Runnable
+    {
+        private final CoreSubscriber<? super T> actual;
+        private final AtomicLong pending = new AtomicLong();
+        private Subscription s;
+
+        ThrottleSubscriber(CoreSubscriber<? super T> actual)
+        {
+            this.actual = actual;
+        }
+
+        @Override
+        public Context currentContext()
+        {
+            return actual.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s)
+        {
+            if (Operators.validate(this.s, s))
+            {
+                this.s = s;
+                listeners.add(this);
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t)
+        {
+            actual.onNext(t);
+        }
+
+        @Override
+        public void onError(Throwable t)
+        {
+            listeners.remove(this);
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete()
+        {
+            listeners.remove(this);
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n)
+        {
+            if (Operators.validate(n))
+            {
+                pending.accumulateAndGet(n, Operators::addCap);
+                run();
+            }
+        }
+
+        @Override
+        public void cancel()
+        {
+            listeners.remove(this);
+            s.cancel();
+        }
+
+        /**
+         * Forwards the accumulated demand unless the schedulers are saturated.
+         */
+        @Override
+        public void run()
+        {
+            if (!saturated)
+            {
+                long n = pending.getAndSet(0);
+                if (n > 0)
+                {
+                    s.request(n);
+                }
+            }
+        }
+    }
+}
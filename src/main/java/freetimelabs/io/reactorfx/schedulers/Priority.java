@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 Jacob Hassel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package freetimelabs.io.reactorfx.schedulers;
+
+/**
+ * The lanes of the prioritized JavaFX schedulers returned by {@link FxSchedulers#fxThread(Priority)}. All lanes share
+ * one drain loop which always takes work from the highest non-empty lane first.
+ */
+public enum Priority
+{
+    /**
+     * Input-critical work, such as reacting to user events, that must not wait behind anything else.
+     */
+    HIGH,
+
+    /**
+     * Regular UI updates. This is the lane used by {@link FxSchedulers#fxPulse()}.
+     */
+    NORMAL,
+
+    /**
+     * Bulk updates, such as refreshing a table from a background feed, which only get the part of the frame budget
+     * that the other lanes left over.
+     */
+    BULK
+}
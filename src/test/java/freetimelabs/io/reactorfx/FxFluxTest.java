@@ -18,37 +18,69 @@ package freetimelabs.io.reactorfx;
 
 import freetimelabs.io.reactorfx.flux.ArrayChange;
 import freetimelabs.io.reactorfx.flux.Change;
+import freetimelabs.io.reactorfx.flux.DoubleChange;
+import freetimelabs.io.reactorfx.flux.FxEventDelegate;
 import freetimelabs.io.reactorfx.flux.FxFlux;
+import freetimelabs.io.reactorfx.flux.FxListenerInfo;
+import freetimelabs.io.reactorfx.flux.FxListenerRegistry;
+import freetimelabs.io.reactorfx.flux.FxObservableGroup;
+import freetimelabs.io.reactorfx.flux.FxOverflow;
+import freetimelabs.io.reactorfx.flux.IntChanges;
+import freetimelabs.io.reactorfx.flux.KeyedValue;
+import freetimelabs.io.reactorfx.flux.MouseSamples;
 import freetimelabs.io.reactorfx.schedulers.FxSchedulers;
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleFloatProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.*;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
 import javafx.event.ActionEvent;
 import javafx.event.Event;
+import javafx.event.EventType;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
+import javafx.scene.input.InputEvent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Pane;
 import javafx.stage.Window;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.reactivestreams.Subscription;
 import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.Scannable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
@@ -112,6 +144,58 @@ public class FxFluxTest
 
     }
 
+    @Test
+    public void testDialogDoesNotBlock() throws TimeoutException, InterruptedException
+    {
+        final String hello = "Hello";
+        AtomicReference<TextInputDialog> actual = new AtomicReference<>();
+        FX_RULE.onStage(stage ->
+        {
+            TextInputDialog dialog = new TextInputDialog(hello);
+            dialog.initOwner(stage);
+            actual.set(dialog);
+            stage.setScene(new Scene(new Pane()));
+            stage.show();
+        });
+        TextInputDialog dialog = actual.get();
+
+        // Subscribing on the FX thread returns while the dialog is showing; showAndWait() would not return at all.
+        AtomicReference<Object> res = new AtomicReference<>();
+        AtomicReference<Disposable> disposable = new AtomicReference<>();
+        AtomicBoolean showing = new AtomicBoolean();
+        Phaser p = new Phaser(2);
+        FX_RULE.onStage(stage ->
+        {
+            disposable.set(FxFlux.from(dialog, thread)
+                                 .subscribe(o ->
+                                 {
+                                     res.set(o);
+                                     p.arrive();
+                                 }));
+            showing.set(dialog.isShowing());
+        });
+        assertThat(showing.get()).isTrue();
+        assertThat(res.get()).isNull();
+
+        Platform.runLater(() -> dialog.getDialogPane()
+                                      .lookupButton(ButtonType.OK)
+                                      .fireEvent(new ActionEvent()));
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(res.get()).isEqualTo(hello);
+        disposable.get()
+                  .dispose();
+
+        // Disposing before a result is chosen hides the dialog again.
+        FX_RULE.onStage(stage ->
+        {
+            FxFlux.from(dialog, thread)
+                  .subscribe()
+                  .dispose();
+            showing.set(dialog.isShowing());
+        });
+        assertThat(showing.get()).isFalse();
+    }
+
     @Test
     public void testNodeEvent() throws TimeoutException, InterruptedException
     {
@@ -145,6 +229,445 @@ public class FxFluxTest
         disposable.dispose();
     }
 
+    @Test
+    public void testSharedNodeEvent()
+    {
+        Pane pane = new Pane();
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        Disposable firstDisposable = FxFlux.from(pane, KeyEvent.KEY_TYPED)
+                                           .subscribe(e -> first.incrementAndGet());
+        Disposable secondDisposable = FxFlux.from(pane, KeyEvent.KEY_TYPED)
+                                            .subscribe(e -> second.incrementAndGet());
+        pane.fireEvent(KEY_EVENT);
+        assertThat(first.get()).isEqualTo(1);
+        assertThat(second.get()).isEqualTo(1);
+
+        firstDisposable.dispose();
+        pane.fireEvent(KEY_EVENT);
+        assertThat(first.get()).isEqualTo(1);
+        assertThat(second.get()).isEqualTo(2);
+
+        secondDisposable.dispose();
+        Disposable thirdDisposable = FxFlux.from(pane, KeyEvent.KEY_TYPED)
+                                           .subscribe(e -> first.incrementAndGet());
+        pane.fireEvent(KEY_EVENT);
+        assertThat(first.get()).isEqualTo(2);
+        assertThat(second.get()).isEqualTo(2);
+        thirdDisposable.dispose();
+    }
+
+    @Test
+    public void testListenerRegistry() throws InterruptedException
+    {
+        FxListenerRegistry registry = FxFlux.registry();
+        registry.enable();
+        try
+        {
+            Pane pane = new Pane();
+            Disposable first = FxFlux.from(pane, KeyEvent.KEY_TYPED)
+                                     .subscribe();
+            Disposable second = FxFlux.from(pane, KeyEvent.KEY_TYPED)
+                                      .subscribe();
+            pane.fireEvent(KEY_EVENT);
+
+            // Both share one handler on the pane, but each subscription is recorded.
+            List<FxListenerInfo> listeners = listenersOf(pane);
+            assertThat(listeners).hasSize(2);
+            FxListenerInfo listener = listeners.get(0);
+            assertThat(listener.getName()).isEqualTo("FxFlux.from(Pane, KEY_TYPED)");
+            assertThat(listener.getEventType()).isEqualTo(KeyEvent.KEY_TYPED);
+            assertThat(listener.getNotifications()).isEqualTo(1);
+            assertThat(listener.getStackTrace()[0].getMethodName()).isEqualTo("testListenerRegistry");
+            assertThat(registry.dump()).contains("Pane@" + Integer.toHexString(System.identityHashCode(pane)) + ": 2");
+
+            first.dispose();
+            FX_RULE.onStage(stage ->
+            {
+                // Waits for the listener to have been removed.
+            });
+            assertThat(listenersOf(pane)).hasSize(1);
+            second.dispose();
+
+            List<List<FxListenerInfo>> leaks = new CopyOnWriteArrayList<>();
+            Disposable.Composite growing = FxFlux.composite();
+            Disposable detector = registry.detectLeaks(Duration.ofMillis(10), 3, leaks::add);
+            for (int i = 0; i < 300 && leaks.isEmpty(); i++)
+            {
+                growing.add(FxFlux.from(pane, KeyEvent.KEY_PRESSED)
+                                  .subscribe());
+                Thread.sleep(20);
+            }
+            detector.dispose();
+            growing.dispose();
+            assertThat(leaks).isNotEmpty();
+            assertThat(leaks.get(0)).allMatch(l -> l.getSource() == pane && l.getEventType() == KeyEvent.KEY_PRESSED);
+        }
+        finally
+        {
+            registry.disable();
+        }
+    }
+
+    private static List<FxListenerInfo> listenersOf(Object source)
+    {
+        List<FxListenerInfo> listeners = new ArrayList<>();
+        for (FxListenerInfo listener : FxFlux.registry()
+                                             .listeners())
+        {
+            if (listener.getSource() == source)
+            {
+                listeners.add(listener);
+            }
+        }
+        return listeners;
+    }
+
+    @Test
+    public void testDelegatedEvent()
+    {
+        Pane cell = new Pane();
+        Pane other = new Pane();
+        Pane row = new Pane(cell, other);
+        Pane table = new Pane(row);
+        FxEventDelegate<KeyEvent> delegate = FxFlux.delegate(table, KeyEvent.KEY_TYPED);
+
+        List<Object> cellSources = new ArrayList<>();
+        List<Object> rowSources = new ArrayList<>();
+        List<Object> matchedSources = new ArrayList<>();
+        Disposable cellDisposable = delegate.from(cell)
+                                            .subscribe(e -> cellSources.add(e.getSource()));
+        Disposable rowDisposable = delegate.from(row)
+                                           .subscribe(e -> rowSources.add(e.getSource()));
+        Disposable matchedDisposable = delegate.from(node -> node == other)
+                                               .subscribe(e -> matchedSources.add(e.getSource()));
+
+        cell.fireEvent(KEY_EVENT);
+        other.fireEvent(KEY_EVENT);
+        table.fireEvent(KEY_EVENT);
+        assertThat(cellSources).containsExactly(cell);
+        assertThat(rowSources).containsExactly(row, row);
+        assertThat(matchedSources).containsExactly(other);
+
+        // Delivered from the capture phase, ahead of the handlers of the node and regardless of them consuming it.
+        List<String> order = new ArrayList<>();
+        cell.addEventHandler(KeyEvent.KEY_TYPED, e ->
+        {
+            order.add("handler");
+            e.consume();
+        });
+        Disposable orderDisposable = delegate.from(cell)
+                                             .subscribe(e -> order.add("delegate"));
+        cell.fireEvent(KEY_EVENT);
+        assertThat(order).containsExactly("delegate", "handler");
+        assertThat(rowSources).containsExactly(row, row, row);
+        orderDisposable.dispose();
+
+        cellDisposable.dispose();
+        rowDisposable.dispose();
+        matchedDisposable.dispose();
+    }
+
+    @Test
+    public void testDelegatedEventOverflow()
+    {
+        Pane cell = new Pane();
+        Pane table = new Pane(cell);
+        FxEventDelegate<KeyEvent> delegate = FxFlux.delegate(table, KeyEvent.KEY_TYPED);
+        List<String> received = new ArrayList<>();
+        BaseSubscriber<KeyEvent> subscriber = new BaseSubscriber<KeyEvent>()
+        {
+            @Override
+            protected void hookOnSubscribe(Subscription s)
+            {
+                s.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(KeyEvent value)
+            {
+                received.add(value.getCharacter());
+            }
+        };
+        delegate.from(cell, FxOverflow.drop())
+                .subscribe(subscriber);
+
+        for (String character : new String[]{"a", "b", "c"})
+        {
+            cell.fireEvent(new KeyEvent(KeyEvent.KEY_TYPED, character, "", KeyCode.UNDEFINED, false, false, false, false));
+        }
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(received).containsExactly("a");
+        subscriber.dispose();
+    }
+
+    @Test
+    public void testNodeFilter() throws TimeoutException, InterruptedException
+    {
+        Pane child = new Pane();
+        Pane parent = new Pane(child);
+        List<String> received = new ArrayList<>();
+        child.addEventHandler(KeyEvent.KEY_TYPED, e -> received.add("handler"));
+        Disposable filterDisposable = FxFlux.fromFilter(parent, KeyEvent.KEY_TYPED)
+                                            .subscribe(e -> received.add("filter"));
+        Disposable consumingDisposable = FxFlux.fromFilter(parent, KeyEvent.KEY_TYPED, e -> "a".equals(e.getCharacter()))
+                                               .subscribe(e -> received.add("consuming " + e.getCharacter()));
+
+        child.fireEvent(new KeyEvent(KeyEvent.KEY_TYPED, "a", "", KeyCode.UNDEFINED, false, false, false, false));
+        assertThat(received).containsExactly("filter", "consuming a");
+
+        received.clear();
+        child.fireEvent(new KeyEvent(KeyEvent.KEY_TYPED, "b", "", KeyCode.UNDEFINED, false, false, false, false));
+        assertThat(received).containsExactly("filter", "consuming b", "handler");
+
+        filterDisposable.dispose();
+        consumingDisposable.dispose();
+        received.clear();
+        // The filters are removed on the FX thread, so the event is fired there after them.
+        Phaser p = new Phaser(2);
+        Platform.runLater(() ->
+        {
+            child.fireEvent(new KeyEvent(KeyEvent.KEY_TYPED, "a", "", KeyCode.UNDEFINED, false, false, false, false));
+            p.arrive();
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(received).containsExactly("handler");
+    }
+
+    @Test
+    public void testNodeFilterOverflow()
+    {
+        Pane child = new Pane();
+        Pane parent = new Pane(child);
+        List<String> received = new ArrayList<>();
+        BaseSubscriber<KeyEvent> subscriber = new BaseSubscriber<KeyEvent>()
+        {
+            @Override
+            protected void hookOnSubscribe(Subscription s)
+            {
+                s.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(KeyEvent value)
+            {
+                received.add(value.getCharacter());
+            }
+        };
+        FxFlux.fromFilter(parent, KeyEvent.KEY_TYPED, e -> "c".equals(e.getCharacter()), FxOverflow.latest())
+              .subscribe(subscriber);
+
+        for (String character : new String[]{"a", "b", "c"})
+        {
+            child.fireEvent(new KeyEvent(KeyEvent.KEY_TYPED, character, "", KeyCode.UNDEFINED, false, false, false, false));
+        }
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(received).containsExactly("a", "c");
+        subscriber.dispose();
+    }
+
+    @Test
+    public void testConflatedNodeEvent() throws TimeoutException, InterruptedException
+    {
+        AtomicReference<Node> actual = new AtomicReference<>();
+        FX_RULE.onStage(stage ->
+        {
+            Pane pane = new Pane();
+            actual.set(pane);
+            stage.setScene(new Scene(pane));
+        });
+
+        List<InputEvent> events = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Node pane = actual.get();
+        Disposable disposable = FxFlux.fromConflated(pane, InputEvent.ANY)
+                                      .subscribeOn(fxThread)
+                                      .publishOn(thread)
+                                      .subscribe(e ->
+                                      {
+                                          events.add(e);
+                                          if (e instanceof ScrollEvent)
+                                          {
+                                              p.arrive();
+                                          }
+                                      });
+
+        Platform.runLater(() ->
+        {
+            for (int x = 1; x <= 10; x++)
+            {
+                pane.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, x));
+            }
+            pane.fireEvent(mouseEvent(MouseEvent.MOUSE_PRESSED, 10));
+            pane.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, 11));
+            for (int dy = 1; dy <= 3; dy++)
+            {
+                pane.fireEvent(new ScrollEvent(ScrollEvent.SCROLL, 0, 0, 0, 0, false, false, false, false, false, false, 0, dy, 0, dy, ScrollEvent.HorizontalTextScrollUnits.NONE, 0, ScrollEvent.VerticalTextScrollUnits.NONE, 0, 0, null));
+            }
+        });
+
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(events).hasSize(4);
+        assertThat(events.get(0)
+                         .getEventType()).isEqualTo(MouseEvent.MOUSE_MOVED);
+        assertThat(((MouseEvent) events.get(0)).getX()).isEqualTo(10);
+        assertThat(events.get(1)
+                         .getEventType()).isEqualTo(MouseEvent.MOUSE_PRESSED);
+        assertThat(((MouseEvent) events.get(2)).getX()).isEqualTo(11);
+        assertThat(((ScrollEvent) events.get(3)).getDeltaY()).isEqualTo(6);
+        disposable.dispose();
+    }
+
+    @Test
+    public void testMouseSamples() throws TimeoutException, InterruptedException
+    {
+        AtomicReference<Node> actual = new AtomicReference<>();
+        FX_RULE.onStage(stage ->
+        {
+            Pane pane = new Pane();
+            actual.set(pane);
+            stage.setScene(new Scene(pane));
+        });
+
+        List<MouseSamples> batches = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Node pane = actual.get();
+        Disposable disposable = FxFlux.fromMouseSamples(pane, MouseEvent.MOUSE_MOVED, 2, 2)
+                                      .subscribeOn(fxThread)
+                                      .subscribe(samples ->
+                                      {
+                                          batches.add(samples);
+                                          p.arrive();
+                                      });
+
+        Platform.runLater(() ->
+        {
+            for (int x = 0; x < 5; x++)
+            {
+                pane.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, x));
+            }
+        });
+
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        MouseSamples first = batches.get(0);
+        assertThat(first.size()).isEqualTo(2);
+        assertThat(first.getX(0)).isEqualTo(0);
+        assertThat(first.getScreenX(1)).isEqualTo(1);
+        assertThat(first.getButtons(0)).isEqualTo(0);
+        assertThat(first.getTimestamp(0)).isLessThanOrEqualTo(first.getTimestamp(1));
+        assertThat(first.getDropped()).isEqualTo(0);
+        assertThatThrownBy(() -> first.getX(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> first.getTimestamp(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        // Both batches are taken until the first is released, so the second keeps the latest samples.
+        Platform.runLater(first::release);
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        MouseSamples second = batches.get(1);
+        assertThat(second.size()).isEqualTo(2);
+        assertThat(second.getX(0)).isEqualTo(3);
+        assertThat(second.getX(1)).isEqualTo(4);
+        assertThat(second.getDropped()).isEqualTo(1);
+        second.release();
+        disposable.dispose();
+    }
+
+    private static MouseEvent mouseEvent(EventType<MouseEvent> eventType, double x)
+    {
+        return new MouseEvent(eventType, x, 0, x, 0, MouseButton.PRIMARY, 1, false, false, false, false, false, false, false, false, false, false, null);
+    }
+
+    @Test
+    public void testDroppedMouseSamplesAreReleased() throws TimeoutException, InterruptedException
+    {
+        Pane pane = new Pane();
+        List<MouseSamples> batches = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        BaseSubscriber<MouseSamples> subscriber = new BaseSubscriber<MouseSamples>()
+        {
+            @Override
+            protected void hookOnSubscribe(Subscription s)
+            {
+            }
+
+            @Override
+            protected void hookOnNext(MouseSamples samples)
+            {
+                batches.add(samples);
+                p.arrive();
+            }
+        };
+        FxFlux.fromMouseSamples(pane, MouseEvent.MOUSE_MOVED, 2, 2, FxOverflow.drop())
+              .subscribeOn(fxThread)
+              .subscribe(subscriber);
+
+        // Without demand every full batch is dropped, and has to be returned for the next one to be filled.
+        Platform.runLater(() ->
+        {
+            for (int x = 0; x < 6; x++)
+            {
+                pane.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, x));
+            }
+            subscriber.request(1);
+            pane.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, 6));
+            pane.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, 7));
+        });
+
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        MouseSamples batch = batches.get(0);
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.getX(0)).isEqualTo(6);
+        assertThat(batch.getX(1)).isEqualTo(7);
+        assertThat(batch.getDropped()).isEqualTo(0);
+        batch.release();
+        subscriber.dispose();
+    }
+
+    @Test
+    public void testWhileShowing()
+    {
+        SimpleObjectProperty<String> observable = new SimpleObjectProperty<>("a");
+        List<String> whileShowing = new ArrayList<>();
+        List<String> untilHidden = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        Pane child = new Pane();
+        Pane root = new Pane();
+        Disposable.Composite disposables = FxFlux.composite();
+        FX_RULE.onStage(stage ->
+        {
+            stage.setScene(new Scene(root));
+            stage.show();
+            disposables.add(FxFlux.whileShowing(child, FxFlux.from(observable))
+                                  .subscribe(whileShowing::add));
+            disposables.add(FxFlux.untilHidden(child, FxFlux.from(observable))
+                                  .subscribe(untilHidden::add, e -> {}, () -> completed.set(true)));
+            observable.set("b");
+        });
+        assertThat(whileShowing).isEmpty();
+
+        FX_RULE.onStage(stage ->
+        {
+            root.getChildren()
+                .add(child);
+            observable.set("c");
+        });
+        assertThat(whileShowing).containsExactly("b", "c");
+
+        FX_RULE.onStage(stage ->
+        {
+            root.getChildren()
+                .remove(child);
+            observable.set("d");
+        });
+        assertThat(whileShowing).containsExactly("b", "c");
+        assertThat(untilHidden).containsExactly("a", "b", "c");
+        assertThat(completed.get()).isTrue();
+
+        FX_RULE.onStage(stage -> root.getChildren()
+                                     .add(child));
+        assertThat(whileShowing).containsExactly("b", "c", "d");
+        disposables.dispose();
+    }
+
     @Test
     public void testNodeActionEvent() throws TimeoutException, InterruptedException
     {
@@ -238,6 +761,285 @@ public class FxFluxTest
         disposable1.dispose();
     }
 
+    @Test
+    public void testWeakObservable() throws InterruptedException
+    {
+        SimpleIntegerProperty observable = new SimpleIntegerProperty(0);
+        List<Number> retained = new ArrayList<>();
+        Disposable disposable = FxFlux.weak(FxFlux.from(observable))
+                                      .subscribe(retained::add);
+        AtomicInteger abandoned = new AtomicInteger();
+        WeakReference<Disposable> abandonedDisposable = new WeakReference<>(FxFlux.weak(FxFlux.from(observable))
+                                                                                  .subscribe(v -> abandoned.incrementAndGet()));
+        long purged = FxFlux.purgedListeners();
+        for (int i = 0; abandonedDisposable.get() != null && i < 100; i++)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(abandonedDisposable.get()).isNull();
+
+        observable.set(1);
+        observable.set(2);
+        assertThat(retained).containsExactly(0, 1, 2);
+        assertThat(abandoned.get()).isEqualTo(1);
+        assertThat(FxFlux.purgedListeners()).isEqualTo(purged + 1);
+        disposable.dispose();
+    }
+
+    @Test
+    public void testComposite()
+    {
+        SimpleIntegerProperty observable = new SimpleIntegerProperty(0);
+        AtomicInteger emitted = new AtomicInteger();
+        Disposable.Composite composite = FxFlux.composite();
+        for (int i = 0; i < 1000; i++)
+        {
+            composite.add(FxFlux.from(observable)
+                                .subscribe(v -> emitted.incrementAndGet()));
+        }
+        assertThat(composite.size()).isEqualTo(1000);
+        observable.set(1);
+        assertThat(emitted.get()).isEqualTo(2000);
+
+        composite.dispose();
+        FX_RULE.onStage(stage ->
+        {
+            // Waits for the disposal pass to have run.
+        });
+        observable.set(2);
+        assertThat(emitted.get()).isEqualTo(2000);
+        assertThat(composite.isDisposed()).isTrue();
+
+        Disposable late = FxFlux.from(observable)
+                                .subscribe(v -> emitted.incrementAndGet());
+        assertThat(composite.add(late)).isFalse();
+        assertThat(late.isDisposed()).isTrue();
+    }
+
+    @Test
+    public void testWorker() throws TimeoutException, InterruptedException
+    {
+        Worker<Integer> worker = FxFlux.toWorker(Flux.just(1, 2, 3), Schedulers.parallel());
+        List<Worker.State> states = new CopyOnWriteArrayList<>();
+        AtomicReference<Integer> result = new AtomicReference<>();
+        Phaser p = new Phaser(2);
+        FxFlux.fromStateOf(worker)
+              .subscribe(states::add);
+        FxFlux.from(worker)
+              .subscribe(v ->
+              {
+                  result.set(v);
+                  p.arrive();
+              });
+
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(result.get()).isEqualTo(3);
+        assertThat(worker.getWorkDone()).isEqualTo(3);
+        assertThat(worker.getProgress()).isEqualTo(1);
+        assertThat(states).endsWith(Worker.State.SUCCEEDED);
+
+        Worker<Object> never = FxFlux.toWorker(Flux.never(), Schedulers.parallel());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        FxFlux.from(never)
+              .subscribe(v -> { }, error::set);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        FX_RULE.onStage(stage -> cancelled.set(never.cancel()));
+        assertThat(cancelled.get()).isTrue();
+        assertThat(never.getState()).isEqualTo(Worker.State.CANCELLED);
+        assertThat(never.isRunning()).isFalse();
+        assertThat(error.get()).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    public void testWorkerMessages() throws TimeoutException, InterruptedException
+    {
+        Task<Void> task = new Task<Void>()
+        {
+            @Override
+            protected Void call()
+            {
+                updateTitle("Loading");
+                for (int i = 0; i < 10_000; i++)
+                {
+                    updateMessage("Row " + i);
+                }
+                updateMessage("Done");
+                return null;
+            }
+        };
+        List<String> messages = new CopyOnWriteArrayList<>();
+        List<String> titles = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Disposable messagesDisposable = FxFlux.fromMessagesOf(task)
+                                              .subscribe(message ->
+                                              {
+                                                  messages.add(message);
+                                                  if ("Done".equals(message))
+                                                  {
+                                                      p.arrive();
+                                                  }
+                                              });
+        Disposable titlesDisposable = FxFlux.fromTitlesOf(task)
+                                            .subscribe(titles::add);
+        FX_RULE.onStage(stage ->
+        {
+            // Waits for the listeners to have been added.
+        });
+        new Thread(task).start();
+
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(messages).startsWith("")
+                            .endsWith("Done");
+        assertThat(messages.size()).isLessThan(10_000);
+        assertThat(titles).containsExactly("", "Loading");
+        messagesDisposable.dispose();
+        titlesDisposable.dispose();
+    }
+
+    @Test
+    public void testObservableInvalidations()
+    {
+        SimpleIntegerProperty observable = new SimpleIntegerProperty(0);
+        AtomicInteger computed = new AtomicInteger();
+        IntegerBinding binding = Bindings.createIntegerBinding(() ->
+        {
+            computed.incrementAndGet();
+            return observable.get() * 2;
+        }, observable);
+        List<Number> actual = new CopyOnWriteArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        FxFlux.fromInvalidationsOf(binding)
+              .subscribe(new BaseSubscriber<Number>()
+              {
+                  @Override
+                  protected void hookOnSubscribe(Subscription s)
+                  {
+                      subscription.set(s);
+                      s.request(1);
+                  }
+
+                  @Override
+                  protected void hookOnNext(Number value)
+                  {
+                      actual.add(value);
+                  }
+              });
+        assertThat(actual).containsExactly(0);
+        assertThat(computed.get()).isEqualTo(1);
+
+        for (int i = 1; i <= 100; i++)
+        {
+            observable.set(i);
+        }
+        assertThat(actual).containsExactly(0);
+        assertThat(computed.get()).isEqualTo(1);
+
+        subscription.get()
+                    .request(1);
+        FX_RULE.onStage(stage ->
+        {
+            // Waits for the requested value to have been read.
+        });
+        assertThat(actual).containsExactly(0, 200);
+        assertThat(computed.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testObservableBackpressure()
+    {
+        SimpleIntegerProperty observable = new SimpleIntegerProperty(0);
+        List<Number> actual = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        Flux<Number> flux = FxFlux.from(observable);
+        flux.subscribe(new BaseSubscriber<Number>()
+        {
+            @Override
+            protected void hookOnSubscribe(Subscription s)
+            {
+                subscription.set(s);
+                s.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(Number value)
+            {
+                actual.add(value);
+            }
+        });
+        observable.set(1);
+        observable.set(2);
+        assertThat(actual).containsExactly(0);
+
+        subscription.get()
+                    .request(1);
+        assertThat(actual).containsExactly(0, 1);
+        assertThat(Scannable.from(subscription.get())
+                            .scan(Scannable.Attr.BUFFERED)).isEqualTo(1);
+
+        subscription.get()
+                    .request(Long.MAX_VALUE);
+        observable.set(3);
+        assertThat(actual).containsExactly(0, 1, 2, 3);
+        assertThat(Scannable.from(flux)
+                            .name()).isEqualTo("FxFlux.from(SimpleIntegerProperty)");
+        assertThat(Scannable.from(subscription.get())
+                            .name()).isEqualTo("FxFlux.from(SimpleIntegerProperty)");
+
+        subscription.get()
+                    .cancel();
+        observable.set(4);
+        assertThat(actual).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    public void testObservableOverflow()
+    {
+        assertThat(overflow(FxOverflow.unbounded())).containsExactly(0, 1, 2, 3, 4);
+        assertThat(overflow(FxOverflow.buffer(2))).containsExactly(0, 1, 2, 4);
+        assertThat(overflow(FxOverflow.latest())).containsExactly(0, 3, 4);
+        assertThat(overflow(FxOverflow.drop())).containsExactly(0, 4);
+        assertThat(overflow(FxOverflow.error())).containsExactly(0, "overflow");
+    }
+
+    /**
+     * Requests one value, emits three more, then requests everything and emits a last one.
+     */
+    private static List<Object> overflow(FxOverflow overflow)
+    {
+        SimpleIntegerProperty observable = new SimpleIntegerProperty(0);
+        List<Object> actual = new ArrayList<>();
+        BaseSubscriber<Number> subscriber = new BaseSubscriber<Number>()
+        {
+            @Override
+            protected void hookOnSubscribe(Subscription s)
+            {
+                s.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(Number value)
+            {
+                actual.add(value);
+            }
+
+            @Override
+            protected void hookOnError(Throwable t)
+            {
+                actual.add(Exceptions.isOverflow(t) ? "overflow" : t);
+            }
+        };
+        FxFlux.from(observable, overflow)
+              .subscribe(subscriber);
+        observable.set(1);
+        observable.set(2);
+        observable.set(3);
+        subscriber.request(Long.MAX_VALUE);
+        observable.set(4);
+        subscriber.dispose();
+        return actual;
+    }
+
     @Test
     public void testObservableChanges()
     {
@@ -261,6 +1063,140 @@ public class FxFluxTest
         disposable.dispose();
     }
 
+    @Test
+    public void testPrimitiveChanges() throws TimeoutException, InterruptedException
+    {
+        SimpleDoubleProperty observable = new SimpleDoubleProperty(0);
+        List<DoubleChange> changes = new ArrayList<>();
+        List<String> reused = new ArrayList<>();
+        Disposable all = FxFlux.fromDoubleChangesOf(observable)
+                               .subscribe(changes::add);
+        Disposable flyweight = FxFlux.fromReusedDoubleChangesOf(observable)
+                                     .subscribe(c -> reused.add(c.getOldVal() + "->" + c.getNewVal()));
+        observable.set(1.5);
+        observable.set(1.5);
+        observable.set(2.5);
+        assertThat(changes).extracting(DoubleChange::getOldVal)
+                           .containsExactly(0.0, 1.5);
+        assertThat(changes).extracting(DoubleChange::getNewVal)
+                           .containsExactly(1.5, 2.5);
+        assertThat(reused).containsExactly("0.0->1.5", "1.5->2.5");
+        all.dispose();
+        flyweight.dispose();
+
+        SimpleFloatProperty scale = new SimpleFloatProperty(1f);
+        List<String> scales = new ArrayList<>();
+        Disposable floats = FxFlux.fromFloatChangesOf(scale)
+                                  .subscribe(c -> scales.add(c.getOldVal() + "->" + c.getNewVal()));
+        scale.set(2f);
+        scale.set(2f);
+        assertThat(scales).containsExactly("1.0->2.0");
+        floats.dispose();
+
+        SimpleIntegerProperty counter = new SimpleIntegerProperty(0);
+        AtomicReference<IntChanges> batch = new AtomicReference<>();
+        Phaser p = new Phaser(2);
+        Disposable batches = FxFlux.fromIntChangeBatchesOf(counter)
+                                   .publishOn(thread)
+                                   .subscribe(b ->
+                                   {
+                                       batch.set(b);
+                                       p.arrive();
+                                   });
+        FX_RULE.onStage(stage ->
+        {
+            counter.set(1);
+            counter.set(2);
+            counter.set(3);
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        IntChanges actual = batch.get();
+        assertThat(actual.size()).isEqualTo(3);
+        assertThat(actual.getOldVal(0)).isEqualTo(0);
+        assertThat(actual.getNewVal(0)).isEqualTo(1);
+        assertThat(actual.getOldVal(2)).isEqualTo(2);
+        assertThat(actual.getNewVal(2)).isEqualTo(3);
+        batches.dispose();
+    }
+
+    @Test
+    public void testSnapshots() throws TimeoutException, InterruptedException
+    {
+        SimpleIntegerProperty first = new SimpleIntegerProperty(0);
+        SimpleObjectProperty<String> second = new SimpleObjectProperty<>("a");
+        List<String> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Disposable disposable = FxFlux.fromSnapshotsOf(first, second, (number, text) -> number + text)
+                                      .subscribe(snapshot ->
+                                      {
+                                          actual.add(snapshot);
+                                          if (actual.size() == 2)
+                                          {
+                                              p.arrive();
+                                          }
+                                      });
+        assertThat(actual).containsExactly("0a");
+
+        FX_RULE.onStage(stage ->
+        {
+            first.set(1);
+            second.set("b");
+            first.set(2);
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(actual).containsExactly("0a", "2b");
+        disposable.dispose();
+    }
+
+    @Test
+    public void testObservableGroup() throws TimeoutException, InterruptedException
+    {
+        List<SimpleIntegerProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+        {
+            properties.add(new SimpleIntegerProperty(i));
+        }
+        FxObservableGroup<Number> group = FxFlux.group(properties);
+        SimpleIntegerProperty added = new SimpleIntegerProperty(-1);
+        List<KeyedValue<Number>> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Disposable disposable = group.updates()
+                                     .subscribe(update ->
+                                     {
+                                         actual.add(update);
+                                         if (update.getSource() == added)
+                                         {
+                                             p.arrive();
+                                         }
+                                     });
+        assertThat(actual).hasSize(1000);
+        actual.clear();
+
+        FX_RULE.onStage(stage ->
+        {
+            properties.get(1)
+                      .set(10);
+            properties.get(1)
+                      .set(11);
+            properties.get(7)
+                      .set(70);
+            group.remove(properties.get(7));
+            group.add(added);
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0)
+                         .getSource()).isSameAs(properties.get(1));
+        assertThat(actual.get(0)
+                         .getValue()).isEqualTo(11);
+        assertThat(actual.get(1)
+                         .getSource()).isSameAs(added);
+        assertThat(actual.get(1)
+                         .getValue()).isEqualTo(-1);
+        assertThat(group.size()).isEqualTo(1000);
+        disposable.dispose();
+    }
+
     @Test
     public void testObservableList() throws TimeoutException, InterruptedException
     {
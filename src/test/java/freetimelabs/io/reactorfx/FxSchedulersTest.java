@@ -16,20 +16,35 @@
 
 package freetimelabs.io.reactorfx;
 
+import freetimelabs.io.reactorfx.schedulers.FxSchedulerListener;
+import freetimelabs.io.reactorfx.schedulers.FxSchedulerMetrics;
 import freetimelabs.io.reactorfx.schedulers.FxSchedulers;
+import freetimelabs.io.reactorfx.schedulers.FxStallReport;
+import freetimelabs.io.reactorfx.schedulers.FxWatermarks;
+import freetimelabs.io.reactorfx.schedulers.Priority;
 import javafx.application.Platform;
 import org.junit.ClassRule;
 import org.junit.Test;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class FxSchedulersTest
 {
@@ -52,9 +67,523 @@ public class FxSchedulersTest
         assertThat(isFx).isTrue();
     }
 
+    @Test
+    public void testPulse() throws TimeoutException, InterruptedException
+    {
+        AtomicBoolean isFx = new AtomicBoolean(true);
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Flux.range(0, 1000)
+            .publishOn(FxSchedulers.fxPulse())
+            .doOnComplete(p::arrive)
+            .subscribe(i ->
+            {
+                isFx.compareAndSet(true, Platform.isFxApplicationThread());
+                actual.add(i);
+            });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(isFx).isTrue();
+        assertThat(actual).hasSize(1000)
+                          .isSorted();
+    }
+
+    @Test
+    public void testPulseRollsOverWhenOutOfBudget() throws TimeoutException, InterruptedException
+    {
+        Scheduler scheduler = FxSchedulers.newFxPulse(Duration.ofMillis(1));
+        FxSchedulerMetrics metrics = FxSchedulers.metrics(scheduler);
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        for (int i = 0; i < 10; i++)
+        {
+            final int value = i;
+            scheduler.schedule(() ->
+            {
+                sleep(2);
+                actual.add(value);
+            });
+        }
+        scheduler.schedule(p::arrive);
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(actual).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        // Every task overruns the budget on its own, so each one that has work behind it ends its drain.
+        assertThat(metrics.tasksPerDrain()
+                          .count()).isGreaterThanOrEqualTo(10);
+        scheduler.dispose();
+    }
+
+    @Test
+    public void testPulseRejectsAfterDispose()
+    {
+        Scheduler scheduler = FxSchedulers.newFxPulse(Duration.ofMillis(8));
+        Scheduler.Worker worker = scheduler.createWorker();
+        FxSchedulerMetrics metrics = FxSchedulers.metrics(scheduler);
+        scheduler.dispose();
+        assertThatThrownBy(() -> scheduler.schedule(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> worker.schedule(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(metrics.queueDepth()).isEqualTo(0);
+        assertThat(FxSchedulers.metrics(FxSchedulers.fxPulse())).isSameAs(FxSchedulers.metrics());
+        assertThatThrownBy(() -> FxSchedulers.metrics(FxSchedulers.fxThread())).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testPulseWorkerDispose() throws TimeoutException, InterruptedException
+    {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        Phaser p = new Phaser(2);
+        Scheduler.Worker worker = FxSchedulers.fxPulse()
+                                              .createWorker();
+        Platform.runLater(() ->
+        {
+            worker.schedule(() -> ran.set(true));
+            worker.dispose();
+            FxSchedulers.fxPulse()
+                        .schedule(p::arrive);
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(ran).isFalse();
+        assertThat(worker.isDisposed()).isTrue();
+    }
+
+    @Test
+    public void testPulseWorkerDisposeLargeBacklog() throws TimeoutException, InterruptedException
+    {
+        AtomicInteger ran = new AtomicInteger();
+        AtomicLong depth = new AtomicLong(-1);
+        Phaser p = new Phaser(2);
+        Scheduler.Worker worker = FxSchedulers.fxPulse()
+                                              .createWorker();
+        Platform.runLater(() ->
+        {
+            for (int i = 0; i < 100_000; i++)
+            {
+                Disposable task = worker.schedule(ran::incrementAndGet);
+                if (i % 10 == 0)
+                {
+                    task.dispose();
+                }
+            }
+            worker.dispose();
+            depth.set(FxSchedulers.metrics()
+                                  .queueDepth(Priority.NORMAL));
+            FxSchedulers.fxPulse()
+                        .schedule(p::arrive);
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(depth).hasValue(0);
+        assertThat(ran).hasValue(0);
+        assertThat(FxSchedulers.metrics()
+                               .queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPulseWorkerTaskDispose() throws TimeoutException, InterruptedException
+    {
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Scheduler.Worker worker = FxSchedulers.fxPulse()
+                                              .createWorker();
+        Platform.runLater(() ->
+        {
+            Disposable first = worker.schedule(() -> actual.add(1));
+            worker.schedule(() -> actual.add(2));
+            worker.schedule(p::arrive);
+            first.dispose();
+            assertThat(first.isDisposed()).isTrue();
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(actual).containsExactly(2);
+        worker.dispose();
+    }
+
+    @Test
+    public void testPulseWorkerConcurrentDispose() throws TimeoutException, InterruptedException
+    {
+        for (int round = 0; round < 50; round++)
+        {
+            Scheduler.Worker worker = FxSchedulers.fxPulse()
+                                                  .createWorker();
+            Thread producer = new Thread(() ->
+            {
+                try
+                {
+                    for (int i = 0; i < 1000; i++)
+                    {
+                        worker.schedule(() -> { })
+                              .dispose();
+                        worker.schedule(() -> { });
+                    }
+                }
+                catch (RejectedExecutionException e)
+                {
+                    // Disposed while scheduling.
+                }
+            });
+            producer.start();
+            Thread.sleep(1);
+            worker.dispose();
+            producer.join();
+        }
+        Phaser p = new Phaser(2);
+        FxSchedulers.fxPulse()
+                    .schedule(p::arrive);
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(FxSchedulers.metrics()
+                               .queueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPulseDelay() throws TimeoutException, InterruptedException
+    {
+        AtomicBoolean isFx = new AtomicBoolean(true);
+        List<Integer> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        long start = System.nanoTime();
+        Flux.range(0, 3)
+            .delayElements(Duration.ofMillis(50), FxSchedulers.fxPulse())
+            .doOnComplete(p::arrive)
+            .subscribe(i ->
+            {
+                isFx.compareAndSet(true, Platform.isFxApplicationThread());
+                actual.add(i);
+            });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(isFx).isTrue();
+        assertThat(actual).containsExactly(0, 1, 2);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    public void testPulsePeriodic() throws TimeoutException, InterruptedException
+    {
+        AtomicInteger count = new AtomicInteger();
+        Phaser p = new Phaser(2);
+        Flux.interval(Duration.ofMillis(10), FxSchedulers.fxPulse())
+            .take(5)
+            .doOnComplete(p::arrive)
+            .subscribe(l -> count.incrementAndGet());
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(count).hasValue(5);
+    }
+
+    @Test
+    public void testPulseDelayDispose() throws TimeoutException, InterruptedException
+    {
+        AtomicBoolean ran = new AtomicBoolean(false);
+        Disposable disposable = FxSchedulers.fxPulse()
+                                            .schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+        disposable.dispose();
+
+        Phaser p = new Phaser(2);
+        FxSchedulers.fxPulse()
+                    .schedule(p::arrive, 100, TimeUnit.MILLISECONDS);
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(disposable.isDisposed()).isTrue();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    public void testPriorityLanes() throws TimeoutException, InterruptedException
+    {
+        List<Priority> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Platform.runLater(() ->
+        {
+            FxSchedulers.fxThread(Priority.BULK)
+                        .schedule(() -> actual.add(Priority.BULK));
+            FxSchedulers.fxThread(Priority.NORMAL)
+                        .schedule(() -> actual.add(Priority.NORMAL));
+            FxSchedulers.fxThread(Priority.HIGH)
+                        .schedule(() -> actual.add(Priority.HIGH));
+            FxSchedulers.fxThread(Priority.BULK)
+                        .schedule(p::arrive);
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(actual).containsExactly(Priority.HIGH, Priority.NORMAL, Priority.BULK);
+        assertThat(FxSchedulers.fxThread(Priority.NORMAL)).isSameAs(FxSchedulers.fxPulse());
+    }
+
+    @Test
+    public void testFailingListener() throws TimeoutException, InterruptedException
+    {
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        AtomicReference<Thread.UncaughtExceptionHandler> previous = new AtomicReference<>();
+        FX_RULE.onStage(stage ->
+        {
+            previous.set(Thread.currentThread()
+                               .getUncaughtExceptionHandler());
+            Thread.currentThread()
+                  .setUncaughtExceptionHandler((thread, e) -> errors.add(e));
+        });
+        Disposable listener = FxSchedulers.metrics()
+                                          .addListener(new FxSchedulerListener()
+                                          {
+                                              @Override
+                                              public void onTask(Priority priority, long latencyNanos, long runNanos)
+                                              {
+                                                  throw new IllegalStateException("onTask");
+                                              }
+
+                                              @Override
+                                              public void onDrain(int tasks, long drainNanos, long queueDepth)
+                                              {
+                                                  throw new IllegalStateException("onDrain");
+                                              }
+                                          });
+        try
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                Phaser p = new Phaser(2);
+                FxSchedulers.fxPulse()
+                            .schedule(p::arrive);
+                p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            // Restoring the handler waits for the FX thread, and so for the drain that ran the last task to report it.
+            FX_RULE.onStage(stage -> Thread.currentThread()
+                                           .setUncaughtExceptionHandler(previous.get()));
+            listener.dispose();
+        }
+        assertThat(errors).extracting(Throwable::getMessage)
+                          .contains("onTask", "onDrain");
+    }
+
+    @Test
+    public void testMetrics() throws TimeoutException, InterruptedException
+    {
+        FxSchedulerMetrics metrics = FxSchedulers.metrics();
+        AtomicInteger listenedTasks = new AtomicInteger();
+        AtomicInteger listenedDrains = new AtomicInteger();
+        Disposable listener = metrics.addListener(new FxSchedulerListener()
+        {
+            @Override
+            public void onTask(Priority priority, long latencyNanos, long runNanos)
+            {
+                listenedTasks.incrementAndGet();
+            }
+
+            @Override
+            public void onDrain(int tasks, long drainNanos, long queueDepth)
+            {
+                listenedDrains.incrementAndGet();
+            }
+        });
+        long tasksBefore = metrics.runTime()
+                                  .count();
+
+        Phaser p = new Phaser(2);
+        AtomicInteger remaining = new AtomicInteger(20);
+        AtomicLong depth = new AtomicLong();
+        Runnable task = () ->
+        {
+            sleep(1);
+            if (remaining.decrementAndGet() == 0)
+            {
+                p.arrive();
+            }
+        };
+        Scheduler.Worker worker = FxSchedulers.fxPulse()
+                                              .createWorker();
+        Platform.runLater(() ->
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                FxSchedulers.fxPulse()
+                            .schedule(task);
+                worker.schedule(task);
+            }
+            depth.set(metrics.queueDepth(Priority.NORMAL));
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        listener.dispose();
+        worker.dispose();
+
+        assertThat(depth.get()).isGreaterThanOrEqualTo(20);
+        assertThat(metrics.runTime()
+                          .count() - tasksBefore).isGreaterThanOrEqualTo(19);
+        assertThat(metrics.runTime()
+                          .percentile(50)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1) / 2);
+        assertThat(metrics.latency()
+                          .max()).isGreaterThan(0);
+        assertThat(metrics.tasksPerDrain()
+                          .max()).isGreaterThan(0);
+        assertThat(listenedTasks.get()).isGreaterThanOrEqualTo(19);
+        assertThat(listenedDrains.get()).isGreaterThan(0);
+    }
+
+    @Test
+    public void testWatermarks() throws TimeoutException, InterruptedException
+    {
+        FxWatermarks watermarks = FxSchedulers.watermarks(2, 10);
+        List<Boolean> saturation = new CopyOnWriteArrayList<>();
+        Disposable saturationSubscription = watermarks.saturation()
+                                                      .subscribe(saturation::add);
+
+        Phaser p = new Phaser(2);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicInteger receivedWhileSaturated = new AtomicInteger(-1);
+        Platform.runLater(() ->
+        {
+            for (int i = 0; i < 20; i++)
+            {
+                FxSchedulers.fxPulse()
+                            .schedule(() -> sleep(1));
+            }
+            Flux.range(0, 5)
+                .transform(watermarks::throttle)
+                .subscribe(received::add, e -> p.arrive(), p::arrive);
+            receivedWhileSaturated.set(received.size());
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        saturationSubscription.dispose();
+        watermarks.dispose();
+
+        assertThat(receivedWhileSaturated.get()).isEqualTo(0);
+        assertThat(received).containsExactly(0, 1, 2, 3, 4);
+        assertThat(saturation).containsExactly(false, true, false);
+        assertThat(watermarks.isSaturated()).isFalse();
+    }
+
+    @Test
+    public void testWatermarksDisposedWhileSaturated() throws TimeoutException, InterruptedException
+    {
+        FxWatermarks watermarks = FxSchedulers.watermarks(1, 5);
+        List<Boolean> saturation = new CopyOnWriteArrayList<>();
+        AtomicBoolean saturationCompleted = new AtomicBoolean();
+        watermarks.saturation()
+                  .subscribe(saturation::add, e -> { }, () -> saturationCompleted.set(true));
+
+        Phaser p = new Phaser(2);
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicBoolean saturated = new AtomicBoolean();
+        Platform.runLater(() ->
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                FxSchedulers.fxPulse()
+                            .schedule(() -> { });
+            }
+            saturated.set(watermarks.isSaturated());
+            Flux.range(0, 5)
+                .transform(watermarks::throttle)
+                .subscribe(received::add, e -> p.arrive(), p::arrive);
+            watermarks.dispose();
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+
+        assertThat(saturated).isTrue();
+        assertThat(received).containsExactly(0, 1, 2, 3, 4);
+        assertThat(saturation).containsExactly(false, true, false);
+        assertThat(saturationCompleted).isTrue();
+        assertThat(watermarks.isSaturated()).isFalse();
+    }
+
+    @Test
+    public void testWatchdog() throws TimeoutException, InterruptedException
+    {
+        AtomicReference<FxStallReport> report = new AtomicReference<>();
+        Phaser p = new Phaser(2);
+        Disposable watchdog = FxSchedulers.watchdog(Duration.ofMillis(50), r ->
+        {
+            report.set(r);
+            p.arrive();
+        });
+        Flux.range(0, 2)
+            .publishOn(FxSchedulers.fxThread(Priority.HIGH))
+            .take(1)
+            .subscribe(i -> sleep(200));
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        watchdog.dispose();
+
+        assertThat(report.get()
+                         .getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(report.get()
+                         .getDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(report.get()
+                         .getSubscribers()
+                         .stream()
+                         .anyMatch(s -> s.contains("PublishOn"))).isTrue();
+        assertThat(Stream.of(report.get()
+                                   .getStackTrace())
+                         .anyMatch(e -> "sleep".equals(e.getMethodName()))).isTrue();
+    }
+
+    @Test
+    public void testTrampolineRunsInlineOnFxThread() throws TimeoutException, InterruptedException
+    {
+        List<String> actual = new CopyOnWriteArrayList<>();
+        Phaser p = new Phaser(2);
+        Platform.runLater(() ->
+        {
+            actual.add("before");
+            FxSchedulers.fxTrampoline()
+                        .schedule(() -> actual.add("inline"));
+            actual.add("after");
+            p.arrive();
+        });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(actual).containsExactly("before", "inline", "after");
+    }
+
+    @Test
+    public void testTrampolineReentrancy() throws TimeoutException, InterruptedException
+    {
+        Scheduler scheduler = FxSchedulers.fxTrampoline();
+        AtomicInteger count = new AtomicInteger();
+        Phaser p = new Phaser(2);
+        Runnable[] recurse = new Runnable[1];
+        recurse[0] = () ->
+        {
+            if (count.incrementAndGet() < 100_000)
+            {
+                scheduler.schedule(recurse[0]);
+            }
+            else
+            {
+                p.arrive();
+            }
+        };
+        scheduler.schedule(recurse[0]);
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(count).hasValue(100_000);
+    }
+
+    @Test
+    public void testTrampolineFromOtherThread() throws TimeoutException, InterruptedException
+    {
+        AtomicBoolean isFx = new AtomicBoolean(false);
+        Phaser p = new Phaser(2);
+        Flux.just(1)
+            .publishOn(FxSchedulers.fxTrampoline())
+            .subscribe(i ->
+            {
+                isFx.set(Platform.isFxApplicationThread());
+                p.arrive();
+            });
+        p.awaitAdvanceInterruptibly(p.arrive(), 3, TimeUnit.SECONDS);
+        assertThat(isFx).isTrue();
+    }
+
     @Test
     public void testNoInstance() throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException
     {
         NoInstanceTestHelper.testNoInstance(FxSchedulers.class);
     }
+
+    private static void sleep(long millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
 }